@@ -0,0 +1,97 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures node selection throughput of {@link ManagedNetwork} under contention.
+ *
+ * The nested classes run the same benchmarks at 1, 8, 32 and 128 threads. No channels are opened;
+ * only the selection path is exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class NodeSelectionBenchmark {
+    private static final int NODE_COUNT = 26;
+
+    private ExecutorService executor;
+    private Network network;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>(NODE_COUNT);
+        for (var i = 0; i < NODE_COUNT; i++) {
+            addresses.put("127.0.0.1:" + (50211 + i), new AccountId(3 + i));
+        }
+
+        network = Network.forNetwork(executor, addresses);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws TimeoutException, InterruptedException {
+        network.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Node getNode() {
+        return network.getNode(null);
+    }
+
+    @Benchmark
+    public List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
+        return network.getNodeAccountIdsForExecute();
+    }
+
+    @Threads(1)
+    public static class Threads1 extends NodeSelectionBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends NodeSelectionBenchmark {
+    }
+
+    @Threads(32)
+    public static class Threads32 extends NodeSelectionBenchmark {
+    }
+
+    @Threads(128)
+    public static class Threads128 extends NodeSelectionBenchmark {
+    }
+}
@@ -0,0 +1,71 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Transaction#fromBytes(byte[])} on a {@link TransferTransaction} frozen for every mainnet node and
+ * signed by two keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionFromBytesBenchmark {
+    private static final int NODE_COUNT = 26;
+
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var nodeAccountIds = new ArrayList<AccountId>(NODE_COUNT);
+        for (var i = 0; i < NODE_COUNT; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        bytes = new TransferTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(TransactionId.withValidStart(new AccountId(5006), Instant.ofEpochSecond(1554158542)))
+            .addHbarTransfer(new AccountId(5006), Hbar.fromTinybars(-400))
+            .addHbarTransfer(new AccountId(5008), Hbar.fromTinybars(400))
+            .setTransactionMemo("benchmark")
+            .freeze()
+            .sign(PrivateKey.generateED25519())
+            .sign(PrivateKey.generateED25519())
+            .toBytes();
+    }
+
+    @Benchmark
+    public Transaction<?> fromBytes() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(bytes);
+    }
+}
@@ -23,7 +23,6 @@ import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
-import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionID;
 import java8.util.concurrent.CompletableFuture;
@@ -398,37 +397,37 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         outerTransactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
         innerSignedTransactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
 
-        for (int i = 0; i < requiredChunks; i++) {
-            var startIndex = i * chunkSize;
-            @Var var endIndex = startIndex + chunkSize;
+        // Bodies are serialized per (chunk, node) on first access in getSignedTransactionAt()
+        for (int i = 0; i < requiredChunks * nodeAccountIds.size(); i++) {
+            sigPairLists.add(SignatureMap.newBuilder());
+            innerSignedTransactions.add(null);
+            outerTransactions.add(null);
+        }
+    }
 
-            if (endIndex > this.data.size()) {
-                endIndex = this.data.size();
-            }
+    @Override
+    ByteString buildBodyBytesAt(int index) {
+        var nodeCount = nodeAccountIds.size();
+        var chunk = index / nodeCount;
+        var requiredChunks = innerSignedTransactions.size() / nodeCount;
 
-            onFreezeChunk(
-                Objects.requireNonNull(frozenBodyBuilder).setTransactionID(transactionIds.get(i).toProtobuf()),
-                transactionIds.get(0).toProtobuf(),
-                startIndex,
-                endIndex,
-                i,
-                requiredChunks
-            );
+        var startIndex = chunk * chunkSize;
+        @Var var endIndex = startIndex + chunkSize;
 
-            // For each node we add a transaction with that node
-            for (var nodeId : nodeAccountIds) {
-                sigPairLists.add(SignatureMap.newBuilder());
-                innerSignedTransactions.add(SignedTransaction.newBuilder()
-                    .setBodyBytes(
-                        frozenBodyBuilder
-                            .setNodeAccountID(nodeId.toProtobuf())
-                            .build()
-                            .toByteString()
-                    )
-                );
-                outerTransactions.add(null);
-            }
+        if (endIndex > this.data.size()) {
+            endIndex = this.data.size();
         }
+
+        onFreezeChunk(
+            Objects.requireNonNull(frozenBodyBuilder).setTransactionID(transactionIds.get(chunk).toProtobuf()),
+            transactionIds.get(0).toProtobuf(),
+            startIndex,
+            endIndex,
+            chunk,
+            requiredChunks
+        );
+
+        return super.buildBodyBytesAt(index);
     }
 
     /**
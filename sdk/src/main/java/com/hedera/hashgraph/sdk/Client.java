@@ -44,6 +44,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
@@ -53,6 +54,8 @@ import java.util.concurrent.TimeoutException;
  */
 public final class Client implements AutoCloseable, WithPing, WithPingAll {
     static final int DEFAULT_MAX_ATTEMPTS = 10;
+    static final int DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS_PER_NODE = 32;
+    static final int DEFAULT_CHANNELS_PER_NODE = 1;
     static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(8L);
     static final Duration DEFAULT_MIN_BACKOFF = Duration.ofMillis(250L);
     static final Duration DEFAULT_MAX_NODE_BACKOFF = Duration.ofHours(1L);
@@ -81,6 +84,16 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
 
     private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
 
+    private volatile int maxInFlightTransactionsPerNode = DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS_PER_NODE;
+
+    private final TransactionDispatcher transactionDispatcher = new TransactionDispatcher(this);
+
+    final ReceiptTracker receiptTracker = new ReceiptTracker(this);
+
+    final NodeHealthProber healthProber = new NodeHealthProber(this);
+
+    final NetworkUpdater networkUpdater = new NetworkUpdater(this);
+
     private volatile Duration maxBackoff = DEFAULT_MAX_BACKOFF;
 
     private volatile Duration minBackoff = DEFAULT_MIN_BACKOFF;
@@ -89,6 +102,18 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
 
     private boolean defaultRegenerateTransactionId = true;
 
+    private volatile TransactionIdGenerator transactionIdGenerator = TransactionIdGenerator.monotonic();
+
+    private boolean parallelSigning = false;
+
+    @Nullable
+    private volatile HedgingPolicy hedgingPolicy = null;
+
+    private volatile boolean adaptiveConcurrency = false;
+
+    @Nullable
+    private volatile ThrottleModel throttleModel = null;
+
     /**
      * Constructor.
      *
@@ -118,6 +143,26 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
             threadFactory);
     }
 
+    /**
+     * Create an executor which runs every task on a new virtual thread.
+     * <p>
+     * On Java 21 and later the blocking APIs ({@code execute()}, {@code getReceipt()}, ...) then only park a
+     * virtual thread while they wait, so tens of thousands of calls can be in flight from as many threads. On older
+     * runtimes and on Android, where virtual threads do not exist, this falls back to the default fixed thread pool.
+     * <p>
+     * Pass the result to one of the {@code Client.for*()} methods that take an executor.
+     *
+     * @return                          the virtual thread executor, or the default executor when unsupported
+     */
+    public static ExecutorService createVirtualThreadExecutor() {
+        try {
+            // Looked up reflectively as the SDK is compiled for Java 8
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return createExecutor();
+        }
+    }
+
     /**
      * Set the mirror network nodes.
      *
@@ -158,7 +203,21 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forNetwork(Map<String, AccountId> networkMap) {
-        var executor = createExecutor();
+        return forNetwork(networkMap, createExecutor());
+    }
+
+    /**
+     * Construct a client given a set of nodes, running its gRPC callbacks, retries and other background work on the
+     * given executor.
+     * <p>
+     * When the executor is a {@link java.util.concurrent.ScheduledExecutorService}, retry delays are scheduled on it directly. The client
+     * does not shut the executor down; it is owned by the caller.
+     *
+     * @param networkMap                the map of node IDs to node addresses that make up the network
+     * @param executor                  the executor, e.g. from {@link #createVirtualThreadExecutor()}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forNetwork(Map<String, AccountId> networkMap, ExecutorService executor) {
         var network = Network.forNetwork(executor, networkMap);
         var mirrorNetwork = MirrorNetwork.forNetwork(executor, new ArrayList<>());
 
@@ -192,7 +251,17 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forMainnet() {
-        var executor = createExecutor();
+        return forMainnet(createExecutor());
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for Mainnet access, running its gRPC callbacks, retries and other
+     * background work on the given executor. The client does not shut the executor down.
+     *
+     * @param executor                  the executor, e.g. from {@link #createVirtualThreadExecutor()}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forMainnet(ExecutorService executor) {
         var network = Network.forMainnet(executor);
         var mirrorNetwork = MirrorNetwork.forMainnet(executor);
 
@@ -206,7 +275,17 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forTestnet() {
-        var executor = createExecutor();
+        return forTestnet(createExecutor());
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for Testnet access, running its gRPC callbacks, retries and other
+     * background work on the given executor. The client does not shut the executor down.
+     *
+     * @param executor                  the executor, e.g. from {@link #createVirtualThreadExecutor()}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forTestnet(ExecutorService executor) {
         var network = Network.forTestnet(executor);
         var mirrorNetwork = MirrorNetwork.forTestnet(executor);
 
@@ -220,7 +299,17 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forPreviewnet() {
-        var executor = createExecutor();
+        return forPreviewnet(createExecutor());
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for Previewnet access, running its gRPC callbacks, retries and other
+     * background work on the given executor. The client does not shut the executor down.
+     *
+     * @param executor                  the executor, e.g. from {@link #createVirtualThreadExecutor()}
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forPreviewnet(ExecutorService executor) {
         var network = Network.forPreviewnet(executor);
         var mirrorNetwork = MirrorNetwork.forPreviewnet(executor);
 
@@ -576,6 +665,86 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return this;
     }
 
+    /**
+     * Max number of transactions submitted through {@link #executeAll(List)} that may be in flight to a single node.
+     *
+     * @return                          the maximum in-flight transactions per node
+     */
+    public int getMaxInFlightTransactionsPerNode() {
+        return maxInFlightTransactionsPerNode;
+    }
+
+    /**
+     * Set the max number of transactions submitted through {@link #executeAll(List)} that may be in flight to a
+     * single node. Further transactions for that node wait until one completes.
+     *
+     * @param maxInFlightTransactionsPerNode    the desired maximum
+     * @return {@code this}
+     */
+    public Client setMaxInFlightTransactionsPerNode(int maxInFlightTransactionsPerNode) {
+        if (maxInFlightTransactionsPerNode <= 0) {
+            throw new IllegalArgumentException("maxInFlightTransactionsPerNode must be greater than zero");
+        }
+        this.maxInFlightTransactionsPerNode = maxInFlightTransactionsPerNode;
+        return this;
+    }
+
+    /**
+     * Connect to every node of the network concurrently, so the first requests do not pay for connection and TLS
+     * setup. Nodes which cannot be reached, or whose certificate does not match the address book, within
+     * {@code timeout} are backed off as if they had returned a bad gRPC status.
+     * <p>
+     * This is opt-in: without it nodes are connected lazily on first use.
+     *
+     * @param timeout                   how long to wait for all the nodes together
+     * @return                          the number of nodes which connected
+     * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    public int warmUp(Duration timeout) throws InterruptedException {
+        return network.warmUp(timeout);
+    }
+
+    /**
+     * Execute a batch of transactions, spreading them over the healthy nodes with at most
+     * {@link #getMaxInFlightTransactionsPerNode()} in flight per node.
+     * <p>
+     * Transactions without node account IDs are assigned nodes here. Each transaction is frozen, signed with the
+     * operator and executed only once its node has a free slot.
+     *
+     * @param transactions              the transactions to execute
+     * @return                          one future per transaction, in input order
+     */
+    public List<CompletableFuture<TransactionResponse>> executeAllAsync(List<? extends Transaction<?>> transactions) {
+        return transactionDispatcher.executeAllAsync(transactions);
+    }
+
+    /**
+     * Execute a batch of transactions and block until every one has completed.
+     *
+     * @param transactions              the transactions to execute
+     * @return                          the responses, in input order
+     * @throws TimeoutException         when a transaction times out
+     * @throws PrecheckStatusException  when a precheck fails; the first failure in input order is thrown
+     * @see #executeAllAsync(List)
+     */
+    public List<TransactionResponse> executeAll(List<? extends Transaction<?>> transactions) throws TimeoutException, PrecheckStatusException {
+        var futures = executeAllAsync(transactions);
+        var responses = new ArrayList<TransactionResponse>(futures.size());
+
+        for (var future : futures) {
+            try {
+                responses.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw Executable.rethrowExecutionFailure(e);
+            }
+        }
+
+        return responses;
+    }
+
     /**
      * The maximum amount of time to wait between retries
      *
@@ -712,6 +881,195 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return this;
     }
 
+    /**
+     * Extract the hedging policy for free queries.
+     *
+     * @return                          the hedging policy, or null when hedging is disabled
+     */
+    @Nullable
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Assign the hedging policy for free queries, such as {@link AccountBalanceQuery} and
+     * {@link TransactionReceiptQuery}. A query which has not answered within the policy's delay is also sent to the
+     * next node, and the first successful answer wins. Paid queries and transactions are never hedged.
+     * <p>
+     * Hedging is disabled by default.
+     *
+     * @param hedgingPolicy             the hedging policy, or null to disable hedging
+     * @return {@code this}
+     */
+    public synchronized Client setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+        return this;
+    }
+
+    /**
+     * Extract the time between two refreshes of the network from the address book.
+     *
+     * @return                          the period, or null when the network is not refreshed
+     */
+    @Nullable
+    public Duration getNetworkUpdatePeriod() {
+        return networkUpdater.getPeriod();
+    }
+
+    /**
+     * Refresh the network from the address book, fetched from the mirror network with {@link AddressBookQuery},
+     * every {@code period}.
+     * <p>
+     * Each refresh only adds the nodes which joined and removes the nodes which left. Nodes which are still listed
+     * keep their channels, health and backoff, and the channels of removed nodes are drained in the background.
+     * <p>
+     * The network is not refreshed by default. Closing the client stops refreshing.
+     *
+     * @param period                    the time between two refreshes, or null to stop refreshing
+     * @return {@code this}
+     */
+    public synchronized Client setNetworkUpdatePeriod(@Nullable Duration period) {
+        if (period != null && (period.isNegative() || period.isZero())) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+
+        networkUpdater.setPeriod(period);
+        return this;
+    }
+
+    /**
+     * Extract the time between two rounds of node health probes.
+     *
+     * @return                          the interval, or null when nodes are not probed
+     */
+    @Nullable
+    public Duration getHealthProbeInterval() {
+        return healthProber.getInterval();
+    }
+
+    /**
+     * Probe the nodes in the background with free pings, every {@code interval}, on the client's executor.
+     * <p>
+     * A node which backed off is then only readmitted after it answers a probe, so requests are not the ones to find
+     * out it is still down. A failed probe backs the node off further. Healthy nodes which were not used during the
+     * last interval are probed as well. When no node is healthy at all, requests fall back to the nodes whose backoff
+     * has ended.
+     * <p>
+     * Probing is disabled by default. Closing the client disables it.
+     *
+     * @param interval                  the time between two rounds of probes, or null to disable probing
+     * @return {@code this}
+     */
+    public synchronized Client setHealthProbeInterval(@Nullable Duration interval) {
+        if (interval != null && (interval.isNegative() || interval.isZero())) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+
+        healthProber.setInterval(interval);
+        return this;
+    }
+
+    /**
+     * Extract the metrics this client reports to.
+     *
+     * @return                          the metrics, {@link ClientMetrics#NOOP} by default
+     */
+    public ClientMetrics getMetrics() {
+        return network.getMetrics();
+    }
+
+    /**
+     * Report what this client measures while it executes requests to {@code metrics}: the latency and outcome of every
+     * call per node and per {@link RequestType}, attempts, retries with their reason, backoff waits, the number of
+     * healthy nodes and the state of every channel.
+     * <p>
+     * Nothing is reported by default.
+     *
+     * @param metrics                   the metrics, or {@link ClientMetrics#NOOP} to stop reporting
+     * @return {@code this}
+     */
+    public synchronized Client setMetrics(ClientMetrics metrics) {
+        network.setMetrics(Objects.requireNonNull(metrics));
+        return this;
+    }
+
+    /**
+     * Extract the model of the network's throttles transactions are paced with.
+     *
+     * @return                          the throttle model, or null when transactions are not paced
+     */
+    @Nullable
+    public ThrottleModel getThrottleModel() {
+        return throttleModel;
+    }
+
+    /**
+     * Pace transactions to stay under the network's throttles, loaded with {@link ThrottleModel#fromNetwork(Client)}
+     * or from a local copy of the throttle definitions file with {@link ThrottleModel#fromBytes(byte[])}. A
+     * transaction which would go over the limit of its type waits until the model has room for it.
+     * <p>
+     * Transactions are not paced by default.
+     *
+     * @param throttleModel             the throttle model, or null to stop pacing
+     * @return {@code this}
+     */
+    public synchronized Client setThrottleModel(@Nullable ThrottleModel throttleModel) {
+        this.throttleModel = throttleModel;
+        return this;
+    }
+
+    /**
+     * Is the number of calls in flight to each node limited adaptively?
+     *
+     * @return                          is adaptive concurrency enabled
+     */
+    public boolean isAdaptiveConcurrencyEnabled() {
+        return adaptiveConcurrency;
+    }
+
+    /**
+     * Limit the number of calls in flight to each node. The limit grows while a node answers normally and is halved
+     * whenever it answers {@code BUSY} or {@code PLATFORM_TRANSACTION_NOT_CREATED}, or gRPC reports
+     * {@code RESOURCE_EXHAUSTED}. A request for a node at its limit moves on to the next node of its list, and waits
+     * for a free slot only once every node it may use is at its limit.
+     * <p>
+     * Adaptive concurrency is disabled by default.
+     *
+     * @param adaptiveConcurrency       should calls to each node be limited
+     * @return {@code this}
+     */
+    public synchronized Client setAdaptiveConcurrency(boolean adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+        return this;
+    }
+
+    /**
+     * Extract the number of gRPC channels opened to each node.
+     *
+     * @return                          the number of channels per node
+     */
+    public synchronized int getChannelsPerNode() {
+        return network.getChannelsPerNode();
+    }
+
+    /**
+     * Set the number of gRPC channels, and so HTTP/2 connections, opened to each node.
+     * <p>
+     * A single connection caps the number of concurrent calls to a node at the server's HTTP/2 stream limit. With
+     * more than one channel, each call goes to the channel of its node with the fewest outstanding calls.
+     *
+     * @param channelsPerNode           the number of channels per node
+     * @return {@code this}
+     */
+    public synchronized Client setChannelsPerNode(int channelsPerNode) {
+        if (channelsPerNode <= 0) {
+            throw new IllegalArgumentException("channelsPerNode must be greater than zero");
+        }
+
+        network.setChannelsPerNode(channelsPerNode);
+        return this;
+    }
+
     /**
      * Extract the minimum node readmit time.
      *
@@ -752,6 +1110,27 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return this;
     }
 
+    /**
+     * Extract the strategy used to pick which node a request is sent to.
+     *
+     * @return                          the node selection strategy
+     */
+    public NodeSelectionStrategy getNodeSelectionStrategy() {
+        return network.getNodeSelectionStrategy();
+    }
+
+    /**
+     * Set the strategy used to pick which node a request is sent to. Defaults to
+     * {@link NodeSelectionStrategy#random()}.
+     *
+     * @param nodeSelectionStrategy     the desired node selection strategy
+     * @return {@code this}
+     */
+    public Client setNodeSelectionStrategy(NodeSelectionStrategy nodeSelectionStrategy) {
+        network.setNodeSelectionStrategy(nodeSelectionStrategy);
+        return this;
+    }
+
     /**
      * Set the max amount of nodes that will be chosen per request. By default, the request will use 1/3rd the network
      * nodes per request.
@@ -921,6 +1300,52 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
         return this;
     }
 
+    /**
+     * Extract the generator of the IDs of transactions frozen with this client and of query payments.
+     *
+     * @return                          the transaction ID generator
+     */
+    public TransactionIdGenerator getTransactionIdGenerator() {
+        return transactionIdGenerator;
+    }
+
+    /**
+     * Assign the generator of the IDs of transactions frozen with this client, of the payments for its queries, and
+     * of transactions regenerated after {@link Status#TRANSACTION_EXPIRED}. Transactions with an explicit
+     * transaction ID keep it.
+     * <p>
+     * Defaults to {@link TransactionIdGenerator#monotonic()}, whose IDs never collide for the same payer.
+     *
+     * @param transactionIdGenerator    the transaction ID generator
+     * @return {@code this}
+     */
+    public Client setTransactionIdGenerator(TransactionIdGenerator transactionIdGenerator) {
+        this.transactionIdGenerator = Objects.requireNonNull(transactionIdGenerator);
+        return this;
+    }
+
+    /**
+     * Are transactions frozen with this client built and signed concurrently?
+     *
+     * @return                          is parallel signing enabled
+     */
+    public synchronized boolean isParallelSigningEnabled() {
+        return parallelSigning;
+    }
+
+    /**
+     * Build and sign the node-specific transactions of every transaction frozen with this client concurrently on the
+     * client's executor. Useful when freezing against many nodes with expensive signers, e.g. ECDSA keys.
+     *
+     * @param parallelSigning           should transactions be signed concurrently
+     * @return {@code this}
+     * @see Transaction#setSigningExecutor(java.util.concurrent.Executor)
+     */
+    public synchronized Client setParallelSigning(boolean parallelSigning) {
+        this.parallelSigning = parallelSigning;
+        return this;
+    }
+
     /**
      * Maximum amount of time a request can run
      *
@@ -983,6 +1408,10 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      */
     @Override
     public synchronized void close() throws TimeoutException {
+        healthProber.setInterval(null);
+        networkUpdater.setPeriod(null);
+        receiptTracker.close();
+
         try {
             network.close();
             mirrorNetwork.close();
@@ -1001,6 +1430,10 @@ public final class Client implements AutoCloseable, WithPing, WithPingAll {
      * @param timeout The Duration to be set
      */
     public synchronized void close(Duration timeout) throws TimeoutException {
+        healthProber.setInterval(null);
+        networkUpdater.setPeriod(null);
+        receiptTracker.close();
+
         try {
             network.close(timeout);
             mirrorNetwork.close(timeout);
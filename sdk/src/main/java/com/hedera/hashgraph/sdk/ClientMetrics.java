@@ -0,0 +1,124 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import io.grpc.ConnectivityState;
+import io.grpc.Status.Code;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives the measurements a client takes while it executes requests, to be bridged to a metrics library.
+ * <p>
+ * Every method does nothing by default, so an implementation only overrides what it records. The methods are called
+ * on the threads which run the requests, often concurrently, and must be thread-safe and return quickly; anything
+ * slow, like exporting, belongs on another thread.
+ * <p>
+ * A typical bridge keeps a latency histogram per node and per {@link RequestType} from
+ * {@link #onResponse(AccountId, RequestType, long, Status, Code)}, and counters from the other methods.
+ *
+ * @see Client#setMetrics(ClientMetrics)
+ */
+public interface ClientMetrics {
+    /**
+     * Metrics which record nothing, the default of every client.
+     */
+    ClientMetrics NOOP = new ClientMetrics() {
+    };
+
+    /**
+     * A call was sent to a node. A hedged call counts as a second call of the same attempt.
+     *
+     * @param nodeAccountId             the node called
+     * @param requestType               the kind of request, {@link RequestType#NONE} when not known
+     * @param attempt                   the attempt number, starting at 1
+     */
+    default void onAttempt(AccountId nodeAccountId, RequestType requestType, int attempt) {
+    }
+
+    /**
+     * A call to a node ended, with an answer or with a failure.
+     *
+     * @param nodeAccountId             the node called
+     * @param requestType               the kind of request, {@link RequestType#NONE} when not known
+     * @param latencyNanos              the time from sending the call until it ended, in nanoseconds
+     * @param status                    the precheck status the node answered with, or null when the call failed
+     * @param grpcCode                  the gRPC status of the call, {@link Code#OK} when the node answered
+     */
+    default void onResponse(
+        AccountId nodeAccountId,
+        RequestType requestType,
+        long latencyNanos,
+        @Nullable Status status,
+        Code grpcCode
+    ) {
+    }
+
+    /**
+     * A request will be tried again after a call to a node.
+     *
+     * @param nodeAccountId             the node which was called
+     * @param requestType               the kind of request, {@link RequestType#NONE} when not known
+     * @param reason                    {@link ExecutionState#Retry} when the node asked to try again later,
+     *                                  {@link ExecutionState#ServerError} when another node is tried
+     * @param grpcCode                  the gRPC status of the call, {@link Code#OK} when the node answered
+     */
+    default void onRetry(AccountId nodeAccountId, RequestType requestType, ExecutionState reason, Code grpcCode) {
+    }
+
+    /**
+     * A request waits before its next call, for the node to come out of its backoff or before a retry.
+     *
+     * @param nodeAccountId             the node the request waits for
+     * @param requestType               the kind of request, {@link RequestType#NONE} when not known
+     * @param delayMillis               the wait in milliseconds
+     */
+    default void onBackoff(AccountId nodeAccountId, RequestType requestType, long delayMillis) {
+    }
+
+    /**
+     * The set of healthy nodes of the network changed, as nodes back off, are readmitted, join or leave.
+     *
+     * @param healthyNodes              the number of healthy nodes
+     * @param totalNodes                the number of nodes in the network
+     */
+    default void onHealthyNodesChanged(int healthyNodes, int totalNodes) {
+    }
+
+    /**
+     * A gRPC channel to a node changed state. A node with several channels reports each of them.
+     *
+     * @param nodeAccountId             the node the channel connects to
+     * @param state                     the new state of the channel
+     */
+    default void onChannelStateChanged(AccountId nodeAccountId, ConnectivityState state) {
+    }
+
+    /**
+     * The number of ready transactions in a {@link TransactionPool} changed, as transactions are taken, expire or are
+     * built in the background.
+     *
+     * @param payerAccountId            the account which pays for the pool's transactions
+     * @param depth                     the number of ready transactions
+     * @param targetDepth               the number of ready transactions the pool keeps when it can
+     */
+    default void onTransactionPoolDepthChanged(AccountId payerAccountId, int depth, int targetDepth) {
+    }
+}
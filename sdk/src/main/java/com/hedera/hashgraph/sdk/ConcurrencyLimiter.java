@@ -0,0 +1,171 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptive limit on the number of calls in flight to one node.
+ * <p>
+ * The limit follows AIMD: every call the node answers normally raises it by {@code 1 / limit}, so it grows by about
+ * one per round trip, and every overload signal ({@code BUSY}, {@code PLATFORM_TRANSACTION_NOT_CREATED} or gRPC
+ * {@code RESOURCE_EXHAUSTED}) halves it. Calls over the limit wait in FIFO order until a permit is released.
+ */
+class ConcurrencyLimiter {
+    static final int INITIAL_LIMIT = 16;
+    static final int MIN_LIMIT = 1;
+    static final int MAX_LIMIT = 512;
+
+    /**
+     * Calls started before a decrease usually answer with the same overload signal; halve once per burst.
+     */
+    private static final long DECREASE_INTERVAL_NANOS = 100_000_000L;
+
+    /**
+     * How a call that held a permit ended.
+     */
+    enum Outcome {
+        /**
+         * The node answered and was not overloaded.
+         */
+        SUCCESS,
+        /**
+         * The node signalled it is overloaded.
+         */
+        OVERLOADED,
+        /**
+         * The call says nothing about the node's capacity, e.g. it was cancelled or never connected.
+         */
+        IGNORED
+    }
+
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private double limit = INITIAL_LIMIT;
+
+    private int inFlight = 0;
+
+    private long lastDecreaseAt = System.nanoTime() - DECREASE_INTERVAL_NANOS;
+
+    /**
+     * Take a permit when one is free.
+     *
+     * @return                          whether a permit was taken
+     */
+    synchronized boolean tryAcquire() {
+        while (!waiters.isEmpty() && waiters.peek().isDone()) {
+            waiters.poll();
+        }
+
+        if (waiters.isEmpty() && inFlight < getLimit()) {
+            inFlight++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Take a permit, waiting in line when none is free.
+     *
+     * @return                          a future completed once the permit is held
+     */
+    synchronized CompletableFuture<Void> acquireAsync() {
+        if (tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var waiter = new CompletableFuture<Void>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    /**
+     * Return a permit and adjust the limit from how the call ended.
+     *
+     * @param outcome                   how the call ended
+     */
+    void release(Outcome outcome) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+
+        synchronized (this) {
+            inFlight--;
+
+            if (outcome == Outcome.SUCCESS) {
+                limit = Math.min(MAX_LIMIT, limit + 1.0 / limit);
+            } else if (outcome == Outcome.OVERLOADED) {
+                var now = System.nanoTime();
+                if (now - lastDecreaseAt >= DECREASE_INTERVAL_NANOS) {
+                    limit = Math.max(MIN_LIMIT, limit / 2);
+                    lastDecreaseAt = now;
+                }
+            }
+
+            while (!waiters.isEmpty() && inFlight < getLimit()) {
+                var waiter = waiters.poll();
+
+                // A request which was cancelled or timed out while waiting gives up its place
+                if (!waiter.isDone()) {
+                    inFlight++;
+                    granted.add(waiter);
+                }
+            }
+        }
+
+        // Complete outside the lock, waiters go on to start their calls
+        for (var waiter : granted) {
+            if (!waiter.complete(null)) {
+                // Cancelled after it was granted; hand the permit on
+                release(Outcome.IGNORED);
+            }
+        }
+    }
+
+    /**
+     * Extract the current limit.
+     *
+     * @return                          the number of calls allowed in flight
+     */
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Extract the number of calls in flight.
+     *
+     * @return                          the number of permits held
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Extract the number of calls waiting for a permit.
+     *
+     * @return                          the number of waiting calls
+     */
+    synchronized int getWaiting() {
+        return waiters.size();
+    }
+}
@@ -25,6 +25,8 @@ import org.slf4j.LoggerFactory;
 import org.threeten.bp.Duration;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 /**
@@ -64,6 +66,24 @@ final class Delayer {
     static CompletableFuture<Void> delayFor(long milliseconds, Executor executor) {
         logger.trace("waiting for {} seconds before trying again", (double) milliseconds / 1000.0);
 
+        // A scheduler supplied by the user can run the delay itself, without the shared delay thread in between
+        if (executor instanceof ScheduledExecutorService) {
+            var future = new CompletableFuture<Void>();
+
+            try {
+                var scheduled = ((ScheduledExecutorService) executor).schedule(() -> {
+                    future.complete(null);
+                }, milliseconds, TimeUnit.MILLISECONDS);
+
+                // Cancelling the delay drops the timer instead of leaving it to fire for nothing
+                future.whenComplete((ignored, error) -> scheduled.cancel(false));
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+
+            return future;
+        }
+
         return CompletableFuture.runAsync(
             () -> {
             },
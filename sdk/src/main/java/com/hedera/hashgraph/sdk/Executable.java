@@ -20,6 +20,7 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.Var;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.MethodDescriptor;
@@ -30,13 +31,14 @@ import java8.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.threeten.bp.Duration;
-import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
@@ -71,10 +73,11 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
 
     protected boolean attemptedAllNodes = false;
 
-    // Lambda responsible for executing synchronous gRPC requests. Pluggable for unit testing.
+    // Lambda responsible for executing gRPC requests. Both the synchronous and asynchronous paths go
+    // through this single call site. Pluggable for unit testing.
     @VisibleForTesting
-    Function<GrpcRequest, ResponseT> blockingUnaryCall =
-        (grpcRequest) -> ClientCalls.blockingUnaryCall(grpcRequest.createCall(), grpcRequest.getRequest());
+    Function<GrpcRequest, CompletableFuture<ResponseT>> futureUnaryCall =
+        (grpcRequest) -> toCompletableFuture(ClientCalls.futureUnaryCall(grpcRequest.createCall(), grpcRequest.getRequest()));
 
     @Nullable
     protected Duration grpcDeadline;
@@ -228,92 +231,84 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         }
     }
 
-    private void delay(long delay) {
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     public O execute(Client client) throws TimeoutException, PrecheckStatusException {
         return execute(client, client.getRequestTimeout());
     }
 
+    /**
+     * Execute this request and block until it completes.
+     * <p>
+     * The blocking variant shares the retry engine of {@link #executeAsync(Client)}: back-off waits are scheduled on
+     * the SDK's timer instead of sleeping, so the calling thread only waits for the final result.
+     *
+     * @param client                    the configured client
+     * @param timeout                   the maximum amount of time to wait for a result
+     * @return                          the result
+     * @throws TimeoutException         when the request does not complete within {@code timeout}
+     * @throws PrecheckStatusException  when the precheck fails
+     */
     @Override
     public O execute(Client client, Duration timeout) throws TimeoutException, PrecheckStatusException {
-        Throwable lastException = null;
-
         mergeFromClient(client);
         onExecute(client);
         checkNodeAccountIds();
         setNodesFromNodeAccountIds(client);
 
-        var timeoutTime = Instant.now().plus(timeout);
-
-        for (int attempt = 1; /* condition is done within loop */; attempt++) {
-            if (attempt > maxAttempts) {
-                throw new MaxAttemptsExceededException(lastException);
-            }
-
-            if (Instant.now().isAfter(timeoutTime)) {
-                throw new TimeoutException();
-            }
-
-            GrpcRequest grpcRequest = new GrpcRequest(client.network, attempt);
-            Node node = grpcRequest.getNode();
-            ResponseT response = null;
+        var returnFuture = new CompletableFuture<O>();
+        var executionDeadline = System.nanoTime() + timeout.toNanos();
+        executeAsyncInternal(client, 1, null, returnFuture, executionDeadline);
 
-            // If we get an unhealthy node here, we've cycled through all the "good" nodes that have failed
-            // and have no choice but to try a bad one.
-            if (!node.isHealthy()) {
-                delay(node.getRemainingTimeForBackoff());
-            }
-
-            if (node.channelFailedToConnect()) {
-                logger.trace("Failed to connect channel for node {} for request #{}", node.getAccountId(), attempt);
-                lastException = grpcRequest.reactToConnectionFailure();
-                continue;
-            }
+        try {
+            return returnFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Stop any pending retries; `executeAsyncInternal` bails out once the future is done
+            returnFuture.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            returnFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw rethrowExecutionFailure(e);
+        }
+    }
 
-            try {
-                response = blockingUnaryCall.apply(grpcRequest);
-            } catch (Throwable e) {
-                lastException = e;
-            }
+    /**
+     * Rethrow the cause of a failed asynchronous execution the way the blocking API reports it.
+     *
+     * @param e                         the failure from waiting on the execution
+     * @return                          the unchecked exception to throw when the cause is not checked
+     * @throws TimeoutException         when the execution timed out
+     * @throws PrecheckStatusException  when the precheck failed
+     */
+    static RuntimeException rethrowExecutionFailure(ExecutionException e) throws TimeoutException, PrecheckStatusException {
+        @Var var cause = e.getCause();
 
-            if (response == null) {
-                if(grpcRequest.shouldRetryExceptionally(lastException)) {
-                    continue;
-                } else {
-                    throw new RuntimeException(lastException);
-                }
-            }
+        // The async pipeline wraps its failures in `CompletionException`
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
 
-            switch (grpcRequest.getStatus(response)) {
-                case ServerError:
-                    lastException = grpcRequest.mapStatusException();
-                    continue;
-                case Retry:
-                    // Response is not ready yet from server, need to wait.
-                    lastException = grpcRequest.mapStatusException();
-                    if (attempt < maxAttempts) {
-                        delay(grpcRequest.getDelay());
-                    }
-                    continue;
-                case RequestError:
-                    throw grpcRequest.mapStatusException();
-                case Success:
-                default:
-                    return grpcRequest.mapResponse();
-            }
+        if (cause instanceof PrecheckStatusException) {
+            throw (PrecheckStatusException) cause;
+        } else if (cause instanceof TimeoutException) {
+            throw (TimeoutException) cause;
+        } else if (cause instanceof StatusRuntimeException) {
+            // A gRPC error which is not retried has always been thrown wrapped
+            return new RuntimeException(cause);
+        } else if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
         }
+
+        return new RuntimeException(cause);
     }
 
     @Override
     @FunctionalExecutable
     public CompletableFuture<O> executeAsync(Client client) {
-        var retval = new CompletableFuture<O>().orTimeout(client.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        var timeout = client.getRequestTimeout();
+        var retval = new CompletableFuture<O>().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        var executionDeadline = System.nanoTime() + timeout.toNanos();
 
         mergeFromClient(client);
 
@@ -321,7 +316,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             checkNodeAccountIds();
             setNodesFromNodeAccountIds(client);
 
-            executeAsyncInternal(client, 1, null, retval);
+            executeAsyncInternal(client, 1, null, retval, executionDeadline);
         }).exceptionally(error -> {
             retval.completeExceptionally(error);
             return null;
@@ -329,6 +324,16 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         return retval;
     }
 
+    /**
+     * Give a shallow copy of this request its own execution state, so the copy and the original can be executed
+     * independently.
+     */
+    void detachExecutionState() {
+        nodeAccountIds = new LockableList<>(new ArrayList<>(nodeAccountIds.getList())).setLocked(nodeAccountIds.isLocked());
+        nodes = new ArrayList<>();
+        attemptedAllNodes = false;
+    }
+
     @VisibleForTesting
     void setNodesFromNodeAccountIds(Client client) {
         for (var accountId : nodeAccountIds) {
@@ -403,7 +408,8 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         Client client,
         int attempt,
         @Nullable Throwable lastException,
-        CompletableFuture<O> returnFuture
+        CompletableFuture<O> returnFuture,
+        @Nullable Long executionDeadline
     ) {
         if (returnFuture.isCancelled() || returnFuture.isCompletedExceptionally() || returnFuture.isDone()) {
             return;
@@ -414,66 +420,256 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             return;
         }
 
-        GrpcRequest grpcRequest = new GrpcRequest(client.network, attempt);
+        if (remainingNanos(executionDeadline) <= 0) {
+            returnFuture.completeExceptionally(new CompletionException(new TimeoutException(
+                "request timed out before attempt #" + attempt)));
+            return;
+        }
+
+        @Nullable
+        var throttleModel = client.getThrottleModel();
+        @Nullable
+        var requestType = throttleModel != null ? getThrottledRequestType() : null;
+        if (requestType != null) {
+            var waitNanos = Objects.requireNonNull(throttleModel).reserve(requestType);
+            if (waitNanos > 0) {
+                logger.trace("Pacing request #{} of type {} for {} ms to stay under the network throttles",
+                    attempt, requestType, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+
+                cancelWhenDone(returnFuture, Delayer.delayFor(TimeUnit.NANOSECONDS.toMillis(waitNanos), client.executor))
+                    .thenRun(() -> executeAttempt(client, attempt, returnFuture, executionDeadline))
+                    .exceptionally(error -> {
+                        returnFuture.completeExceptionally(error);
+                        return null;
+                    });
+                return;
+            }
+        }
+
+        executeAttempt(client, attempt, returnFuture, executionDeadline);
+    }
+
+    private void executeAttempt(
+        Client client,
+        int attempt,
+        CompletableFuture<O> returnFuture,
+        @Nullable Long executionDeadline
+    ) {
+        GrpcRequest grpcRequest = new GrpcRequest(client.network, attempt, executionDeadline);
 
-        // Sleeping if a node is not healthy should not increment attempt as we didn't really make an attempt
+        // If we get an unhealthy node here, we've cycled through all the "good" nodes that have failed
+        // and have no choice but to try a bad one. Waiting for a node to become healthy should not increment
+        // attempt as we didn't really make an attempt.
         if (!grpcRequest.getNode().isHealthy()) {
-            Delayer.delayFor(grpcRequest.getNode().getRemainingTimeForBackoff(), client.executor)
-                .thenRun(() -> executeAsyncInternal(client, attempt, lastException, returnFuture));
+            var backoff = grpcRequest.getNode().getRemainingTimeForBackoff();
+            grpcRequest.recordBackoff(backoff);
+
+            cancelWhenDone(returnFuture, Delayer.delayFor(backoff, client.executor))
+                .thenRun(() -> executeGrpcRequest(client, grpcRequest, returnFuture))
+                .exceptionally(error -> {
+                    returnFuture.completeExceptionally(error);
+                    return null;
+                });
             return;
         }
 
+        executeGrpcRequest(client, grpcRequest, returnFuture);
+    }
+
+    private void executeGrpcRequest(
+        Client client,
+        GrpcRequest grpcRequest,
+        CompletableFuture<O> returnFuture
+    ) {
+        if (returnFuture.isDone()) {
+            grpcRequest.releasePermit(ConcurrencyLimiter.Outcome.IGNORED);
+            return;
+        }
+
+        if (client.isAdaptiveConcurrencyEnabled() && !grpcRequest.holdsPermit) {
+            acquirePermit(client, grpcRequest, returnFuture);
+            return;
+        }
+
+        var attempt = grpcRequest.attempt;
+
         grpcRequest.getNode().channelFailedToConnectAsync().thenAccept(connectionFailed -> {
             if (connectionFailed) {
+                grpcRequest.releasePermit(ConcurrencyLimiter.Outcome.IGNORED);
                 var connectionException = grpcRequest.reactToConnectionFailure();
-                executeAsyncInternal(client, attempt + 1, connectionException, returnFuture);
+                executeAsyncInternal(client, attempt + 1, connectionException, returnFuture, grpcRequest.executionDeadline);
                 return;
             }
 
-            toCompletableFuture(ClientCalls.futureUnaryCall(grpcRequest.createCall(), grpcRequest.getRequest())).handle((response, error) -> {
-                if (grpcRequest.shouldRetryExceptionally(error)) {
-                    // the transaction had a network failure reaching Hedera
-                    executeAsyncInternal(client, attempt + 1, error, returnFuture);
-                    return null;
-                }
-
-                if (error != null) {
-                    // not a network failure, some other weirdness going on; just fail fast
-                    returnFuture.completeExceptionally(new CompletionException(error));
-                    return null;
-                }
+            @Nullable
+            var hedgingPolicy = client.getHedgingPolicy();
+            if (hedgingPolicy != null && isHedgeable() && nodes.size() > 1) {
+                hedgingPolicy.onRequest();
+                new Hedge(client, hedgingPolicy, grpcRequest, returnFuture).start();
+                return;
+            }
 
-                switch (grpcRequest.getStatus(response)) {
-                    case ServerError:
-                        executeAsyncInternal(client, attempt + 1, grpcRequest.mapStatusException(), returnFuture);
-                        break;
-                    case Retry:
-                        Delayer.delayFor((attempt < maxAttempts) ? grpcRequest.getDelay() : 0, client.executor).thenRun(() -> {
-                            executeAsyncInternal(client, attempt + 1, grpcRequest.mapStatusException(), returnFuture);
-                        });
-                        break;
-                    case RequestError:
-                        returnFuture.completeExceptionally(new CompletionException(grpcRequest.mapStatusException()));
-                        break;
-                    case Success:
-                    default:
-                        returnFuture.complete(grpcRequest.mapResponse());
-                }
+            cancelWhenDone(returnFuture, futureUnaryCall.apply(grpcRequest)).handle((response, error) -> {
+                handleResponse(client, grpcRequest, response, error, returnFuture);
                 return null;
             }).exceptionally(error -> {
                 returnFuture.completeExceptionally(error);
                 return null;
             });
         }).exceptionally(error -> {
+            grpcRequest.releasePermit(ConcurrencyLimiter.Outcome.IGNORED);
+            returnFuture.completeExceptionally(error);
+            return null;
+        });
+    }
+
+    /**
+     * Take a slot from the node's {@link ConcurrencyLimiter} before calling it. A node at its limit hands the request
+     * on to the next node of the list; once every node has been passed over the request waits for the last one.
+     */
+    private void acquirePermit(Client client, GrpcRequest grpcRequest, CompletableFuture<O> returnFuture) {
+        var limiter = grpcRequest.getNode().getConcurrencyLimiter();
+
+        if (limiter.tryAcquire()) {
+            grpcRequest.holdsPermit = true;
+            executeGrpcRequest(client, grpcRequest, returnFuture);
+            return;
+        }
+
+        if (grpcRequest.reroutes < nodes.size() - 1) {
+            // Selecting the request advances the node index, which moves on to the next healthy node
+            var next = new GrpcRequest(client.network, grpcRequest.attempt, grpcRequest.executionDeadline);
+            next.reroutes = grpcRequest.reroutes + 1;
+
+            logger.trace("Node {} is at its limit of {} calls, rerouting request #{} to node {}",
+                grpcRequest.getNode().getAccountId(), limiter.getLimit(), grpcRequest.attempt, next.getNode().getAccountId());
+
+            executeGrpcRequest(client, next, returnFuture);
+            return;
+        }
+
+        cancelWhenDone(returnFuture, limiter.acquireAsync()).thenRun(() -> {
+            grpcRequest.holdsPermit = true;
+            executeGrpcRequest(client, grpcRequest, returnFuture);
+        }).exceptionally(error -> {
+            grpcRequest.releasePermit(ConcurrencyLimiter.Outcome.IGNORED);
             returnFuture.completeExceptionally(error);
             return null;
         });
     }
 
+    private void handleResponse(
+        Client client,
+        GrpcRequest grpcRequest,
+        ResponseT response,
+        @Nullable Throwable error,
+        CompletableFuture<O> returnFuture
+    ) {
+        var attempt = grpcRequest.attempt;
+
+        // Free the node's slot before a retry asks for one
+        grpcRequest.onCallEnded(response, error);
+
+        if (grpcRequest.shouldRetryExceptionally(error)) {
+            // the transaction had a network failure reaching Hedera
+            executeAsyncInternal(client, attempt + 1, error, returnFuture, grpcRequest.executionDeadline);
+            return;
+        }
+
+        if (error != null) {
+            if (isDeadlineExceeded(error) && remainingNanos(grpcRequest.executionDeadline) <= 0) {
+                // The call was cut short by the request timeout rather than failing
+                returnFuture.completeExceptionally(new CompletionException(new TimeoutException(
+                    "request timed out during attempt #" + attempt)));
+                return;
+            }
+
+            // not a network failure, some other weirdness going on; just fail fast
+            returnFuture.completeExceptionally(new CompletionException(error));
+            return;
+        }
+
+        switch (grpcRequest.getStatus(response)) {
+            case ServerError:
+                executeAsyncInternal(client, attempt + 1, grpcRequest.mapStatusException(), returnFuture, grpcRequest.executionDeadline);
+                break;
+            case Retry:
+                var delayMillis = (attempt < maxAttempts) ? grpcRequest.getDelay() : 0;
+                grpcRequest.recordBackoff(delayMillis);
+
+                var delay = Delayer.delayFor(delayMillis, client.executor);
+                cancelWhenDone(returnFuture, delay).thenRun(() -> {
+                    executeAsyncInternal(client, attempt + 1, grpcRequest.mapStatusException(), returnFuture, grpcRequest.executionDeadline);
+                }).exceptionally(delayError -> {
+                    returnFuture.completeExceptionally(delayError);
+                    return null;
+                });
+                break;
+            case RequestError:
+                returnFuture.completeExceptionally(new CompletionException(grpcRequest.mapStatusException()));
+                break;
+            case Success:
+            default:
+                returnFuture.complete(grpcRequest.mapResponse());
+        }
+    }
+
+    /**
+     * Cancel work done for an execution once its result is settled, so a cancelled or timed out request stops its
+     * gRPC call, retry timer or wait for a node.
+     *
+     * @param returnFuture              the future of the execution
+     * @param work                      the work to cancel
+     * @return                          {@code work}
+     */
+    private static <T> CompletableFuture<T> cancelWhenDone(CompletableFuture<?> returnFuture, CompletableFuture<T> work) {
+        returnFuture.whenComplete((result, error) -> {
+            if (!work.isDone()) {
+                work.cancel(true);
+            }
+        });
+
+        return work;
+    }
+
+    /**
+     * Get the time left before an execution times out.
+     *
+     * @param executionDeadline         when the execution gives up, as {@code System.nanoTime()}; null for never
+     * @return                          the remaining nanoseconds, {@link Long#MAX_VALUE} without a deadline
+     */
+    private static long remainingNanos(@Nullable Long executionDeadline) {
+        return executionDeadline == null ? Long.MAX_VALUE : executionDeadline - System.nanoTime();
+    }
+
+    /**
+     * Get the gRPC status a call ended with.
+     *
+     * @param error                     the failure of the call, or null when the node answered
+     * @return                          the status code
+     */
+    private static Code grpcCodeOf(@Nullable Throwable error) {
+        if (error == null) {
+            return Code.OK;
+        }
+
+        // A call cancelled on our side, e.g. the slower call of a hedge
+        if (error instanceof CancellationException) {
+            return Code.CANCELLED;
+        }
+
+        return io.grpc.Status.fromThrowable(error).getCode();
+    }
+
+    private static boolean isDeadlineExceeded(Throwable error) {
+        return error instanceof StatusRuntimeException &&
+            ((StatusRuntimeException) error).getStatus().getCode() == Code.DEADLINE_EXCEEDED;
+    }
+
     abstract ProtoRequestT makeRequest();
 
     GrpcRequest getGrpcRequest(int attempt) {
-        return new GrpcRequest(null, attempt);
+        return new GrpcRequest(null, attempt, null);
     }
 
     void advanceRequest() {
@@ -500,6 +696,36 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
     @Nullable
     abstract TransactionId getTransactionIdInternal();
 
+    /**
+     * Can this request be sent to a second node while the first is slow to answer? Only requests which cost
+     * nothing and change nothing qualify.
+     *
+     * @return                          whether the client's {@link HedgingPolicy} applies
+     */
+    boolean isHedgeable() {
+        return false;
+    }
+
+    /**
+     * Which bucket of the client's {@link ThrottleModel} paces this request?
+     *
+     * @return                          the request type, or null when the request is not paced
+     */
+    @Nullable
+    RequestType getThrottledRequestType() {
+        return null;
+    }
+
+    /**
+     * Which kind of request is this, as reported to the client's {@link ClientMetrics}?
+     *
+     * @param request                   the protobuf request being sent
+     * @return                          the request type, {@link RequestType#NONE} when not known
+     */
+    RequestType getRequestType(ProtoRequestT request) {
+        return RequestType.NONE;
+    }
+
     boolean shouldRetryExceptionally(@Nullable Throwable error) {
         if (error instanceof StatusRuntimeException) {
             var statusException = (StatusRuntimeException) error;
@@ -532,27 +758,210 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         }
     }
 
+    /**
+     * Races a second node against a first one which has not answered within the hedging delay.
+     * <p>
+     * The first successful answer is handled as usual and the other call is cancelled. When neither succeeds, the
+     * last answer is handled, so retries proceed from there.
+     */
+    private class Hedge {
+        private final Client client;
+        private final HedgingPolicy policy;
+        private final GrpcRequest primary;
+        private final CompletableFuture<O> returnFuture;
+
+        @Nullable
+        private CompletableFuture<ResponseT> primaryCall = null;
+
+        @Nullable
+        private CompletableFuture<ResponseT> secondaryCall = null;
+
+        // Calls started and not answered yet
+        private int pending = 1;
+
+        private boolean decided = false;
+
+        Hedge(Client client, HedgingPolicy policy, GrpcRequest primary, CompletableFuture<O> returnFuture) {
+            this.client = client;
+            this.policy = policy;
+            this.primary = primary;
+            this.returnFuture = returnFuture;
+        }
+
+        void start() {
+            var call = call(primary);
+            synchronized (this) {
+                primaryCall = call;
+            }
+
+            call.handle((response, error) -> {
+                onAnswer(primary, response, error);
+                return null;
+            });
+
+            cancelWhenDone(returnFuture, Delayer.delayFor(policy.getHedgeDelayMillis(primary.getNode()), client.executor))
+                .thenRun(this::hedge);
+        }
+
+        private void hedge() {
+            GrpcRequest secondary;
+
+            synchronized (this) {
+                if (decided || returnFuture.isDone()) {
+                    return;
+                }
+
+                // Selecting the request advances the node index, so it has to happen before an answer is handled. A
+                // hedge which is not sent puts the index back, so the next retry does not skip a node.
+                var index = nodeAccountIds.getIndex();
+                var attemptedAll = attemptedAllNodes;
+                secondary = new GrpcRequest(client.network, primary.attempt, primary.executionDeadline);
+
+                if (!tryReserve(secondary)) {
+                    nodeAccountIds.setIndex(index);
+                    attemptedAllNodes = attemptedAll;
+                    return;
+                }
+
+                pending++;
+            }
+
+            logger.trace("Hedging request #{} to node {} with node {}",
+                primary.attempt, primary.getNode().getAccountId(), secondary.getNode().getAccountId());
+
+            var call = call(secondary);
+            synchronized (this) {
+                if (decided) {
+                    call.cancel(true);
+                    return;
+                }
+
+                secondaryCall = call;
+            }
+
+            call.handle((response, error) -> {
+                onAnswer(secondary, response, error);
+                return null;
+            });
+        }
+
+        /**
+         * Check that the hedge can be sent to the node selected for it, then take a slot of that node's
+         * {@link ConcurrencyLimiter} and a hedge from the budget. The budget is taken last, so a hedge which is not
+         * sent does not use it up.
+         *
+         * @param secondary             the request selected for the hedge
+         * @return                      whether the hedge may be sent
+         */
+        private boolean tryReserve(GrpcRequest secondary) {
+            var node = secondary.getNode();
+            if (node == primary.getNode() || !node.isHealthy()) {
+                return false;
+            }
+
+            // A hedge is an extra call, so rather than wait for a node at its limit it is not sent at all
+            if (client.isAdaptiveConcurrencyEnabled()) {
+                if (!node.getConcurrencyLimiter().tryAcquire()) {
+                    return false;
+                }
+
+                secondary.holdsPermit = true;
+            }
+
+            if (!policy.tryAcquireHedge()) {
+                secondary.releasePermit(ConcurrencyLimiter.Outcome.IGNORED);
+                return false;
+            }
+
+            return true;
+        }
+
+        private CompletableFuture<ResponseT> call(GrpcRequest grpcRequest) {
+            try {
+                return cancelWhenDone(returnFuture, futureUnaryCall.apply(grpcRequest));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private void onAnswer(GrpcRequest grpcRequest, ResponseT response, @Nullable Throwable error) {
+            @Nullable
+            CompletableFuture<ResponseT> loser;
+
+            // The losing call still held a slot of its node, and its latency counts too
+            grpcRequest.onCallEnded(response, error);
+
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+
+                pending--;
+
+                var succeeded = error == null &&
+                    shouldRetry(mapResponseStatus(response), response) == ExecutionState.Success;
+
+                // Wait for the other call when it may still answer successfully
+                if (!succeeded && pending > 0) {
+                    return;
+                }
+
+                decided = true;
+                loser = grpcRequest == primary ? secondaryCall : primaryCall;
+            }
+
+            if (loser != null) {
+                loser.cancel(true);
+            }
+
+            try {
+                handleResponse(client, grpcRequest, response, error, returnFuture);
+            } catch (RuntimeException e) {
+                returnFuture.completeExceptionally(e);
+            }
+        }
+    }
+
     @VisibleForTesting
     class GrpcRequest {
         @Nullable
         private final Network network;
         private final Node node;
         private final int attempt;
+
+        // When the execution this attempt belongs to gives up, as `System.nanoTime()`; caps the gRPC deadline
+        @Nullable
+        private final Long executionDeadline;
         //private final ClientCall<ProtoRequestT, ResponseT> call;
         private final ProtoRequestT request;
-        private final long startAt;
+        private long startAt;
         private final long delay;
 
         private ResponseT response;
         private double latency;
         private Status responseStatus;
 
-        GrpcRequest(@Nullable Network network, int attempt) {
+        // Whether this request holds a slot of its node's `ConcurrencyLimiter`
+        private boolean holdsPermit = false;
+
+        // How many nodes at their concurrency limit passed this request on
+        private int reroutes = 0;
+
+        private final ClientMetrics metrics;
+        private final RequestType requestType;
+
+        // Whether the end of the call was reported
+        private boolean ended = false;
+
+        GrpcRequest(@Nullable Network network, int attempt, @Nullable Long executionDeadline) {
             this.network = network;
             this.attempt = attempt;
+            this.executionDeadline = executionDeadline;
             this.node = getNodeForExecute(attempt);
             this.request = getRequestForExecute();
             this.startAt = System.nanoTime();
+            this.metrics = network != null ? network.getMetrics() : ClientMetrics.NOOP;
+            this.requestType = Executable.this.getRequestType(request);
 
             // Exponential back-off for Delayer: 250ms, 500ms, 1s, 2s, 4s, 8s, ... 8s
             delay = (long) Math.min(Objects.requireNonNull(minBackoff).toMillis() * Math.pow(2, attempt - 1), Objects.requireNonNull(maxBackoff).toMillis());
@@ -561,11 +970,17 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         public CallOptions getCallOptions() {
             var options = CallOptions.DEFAULT;
 
+            // No attempt may outlive the request it belongs to
+            @Var var timeoutNanos = remainingNanos(executionDeadline);
             if (Executable.this.grpcDeadline != null) {
-                return options.withDeadlineAfter(Executable.this.grpcDeadline.toMillis(), TimeUnit.MILLISECONDS);
-            } else {
+                timeoutNanos = Math.min(timeoutNanos, Executable.this.grpcDeadline.toNanos());
+            }
+
+            if (timeoutNanos == Long.MAX_VALUE) {
                 return options;
             }
+
+            return options.withDeadlineAfter(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
         }
 
         public Node getNode() {
@@ -574,6 +989,10 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
 
         public ClientCall<ProtoRequestT, ResponseT> createCall() {
             verboseLog(node);
+
+            // Measure latency from the call itself, not from any wait for the node to become healthy
+            startAt = System.nanoTime();
+            metrics.onAttempt(node.getAccountId(), requestType, attempt);
             return this.node.getChannel().newCall(Executable.this.getMethodDescriptor(), getCallOptions());
         }
 
@@ -585,8 +1004,74 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             return delay;
         }
 
+        /**
+         * Return the slot held in the node's {@link ConcurrencyLimiter}, if any.
+         *
+         * @param outcome               how the call ended
+         */
+        synchronized void releasePermit(ConcurrencyLimiter.Outcome outcome) {
+            if (holdsPermit) {
+                holdsPermit = false;
+                node.getConcurrencyLimiter().release(outcome);
+            }
+        }
+
+        /**
+         * Report the end of the call to the client's {@link ClientMetrics} and return the slot held in the node's
+         * {@link ConcurrencyLimiter}. Only the first report of a call counts.
+         *
+         * @param response              the response, or null when the call failed
+         * @param error                 the failure, or null when the node answered
+         */
+        void onCallEnded(@Nullable ResponseT response, @Nullable Throwable error) {
+            synchronized (this) {
+                if (ended) {
+                    return;
+                }
+                ended = true;
+            }
+
+            var latencyNanos = System.nanoTime() - startAt;
+            var status = error == null ? Executable.this.mapResponseStatus(response) : null;
+            metrics.onResponse(node.getAccountId(), requestType, latencyNanos, status, grpcCodeOf(error));
+
+            releasePermit(response, error);
+        }
+
+        /**
+         * Report a wait before the next call of this request to the client's {@link ClientMetrics}.
+         *
+         * @param delayMillis           the wait in milliseconds
+         */
+        void recordBackoff(long delayMillis) {
+            if (delayMillis > 0) {
+                metrics.onBackoff(node.getAccountId(), requestType, delayMillis);
+            }
+        }
+
+        /**
+         * Return the slot held in the node's {@link ConcurrencyLimiter} once the call has ended.
+         *
+         * @param response              the response, or null when the call failed
+         * @param error                 the failure, or null when the node answered
+         */
+        void releasePermit(@Nullable ResponseT response, @Nullable Throwable error) {
+            if (error != null) {
+                var overloaded = error instanceof StatusRuntimeException &&
+                    ((StatusRuntimeException) error).getStatus().getCode() == Code.RESOURCE_EXHAUSTED;
+                releasePermit(overloaded ? ConcurrencyLimiter.Outcome.OVERLOADED : ConcurrencyLimiter.Outcome.IGNORED);
+                return;
+            }
+
+            var status = Executable.this.mapResponseStatus(response);
+            var overloaded = status == Status.BUSY || status == Status.PLATFORM_TRANSACTION_NOT_CREATED;
+            releasePermit(overloaded ? ConcurrencyLimiter.Outcome.OVERLOADED : ConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
         Throwable reactToConnectionFailure() {
+            node.recordResponse(elapsedSeconds(), false);
             Objects.requireNonNull(network).increaseBackoff(node);
+            metrics.onRetry(node.getAccountId(), requestType, ExecutionState.ServerError, Code.UNAVAILABLE);
             logger.warn("Retrying node {} in {} ms after channel connection failure during attempt #{}",
                 node.getAccountId(), node.getRemainingTimeForBackoff(), attempt);
             verboseLog(node);
@@ -594,12 +1079,14 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
         }
 
         boolean shouldRetryExceptionally(@Nullable Throwable e) {
-            latency = (double) (System.nanoTime() - startAt) / 1000000000.0;
+            latency = elapsedSeconds();
 
             var retry = Executable.this.shouldRetryExceptionally(e);
 
             if (retry) {
+                node.recordResponse(latency, false);
                 Objects.requireNonNull(network).increaseBackoff(node);
+                metrics.onRetry(node.getAccountId(), requestType, ExecutionState.ServerError, grpcCodeOf(e));
                 logger.warn("Retrying node {} in {} ms after failure during attempt #{}: {}",
                     node.getAccountId(), node.getRemainingTimeForBackoff(), attempt, e != null ? e.getMessage() : "NULL");
                 verboseLog(node);
@@ -608,6 +1095,10 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             return retry;
         }
 
+        private double elapsedSeconds() {
+            return (double) (System.nanoTime() - startAt) / 1000000000.0;
+        }
+
         PrecheckStatusException mapStatusException() {
             // request to hedera failed in a non-recoverable way
             return new PrecheckStatusException(responseStatus, Executable.this.getTransactionIdInternal());
@@ -630,17 +1121,22 @@ abstract class Executable<SdkRequestT, ProtoRequestT, ResponseT, O> implements W
             // Delegate interpretation of response status to subclass. Queries will initiate retries
             // differently from transaction submissions.
             var executionState = Executable.this.shouldRetry(responseStatus, response);
+
+            // Only server errors (busy, not active) count against the node; the rest reached a working node
+            node.recordResponse(latency, executionState != ExecutionState.ServerError);
             if (executionState == ExecutionState.ServerError && attemptedAllNodes) {
                 executionState = ExecutionState.Retry;
                 attemptedAllNodes = false;
             }
             switch (executionState) {
                 case Retry:
+                    metrics.onRetry(node.getAccountId(), requestType, executionState, Code.OK);
                     logger.warn("Retrying node {} in {} ms after failure during attempt #{}: {}",
                         node.getAccountId(), delay, attempt, responseStatus);
                     verboseLog(node);
                     break;
                 case ServerError:
+                    metrics.onRetry(node.getAccountId(), requestType, executionState, Code.OK);
                     logger.warn("Problem submitting request to node {} for attempt #{}, retry with new node: {}",
                         node.getAccountId(), attempt, responseStatus);
                     break;
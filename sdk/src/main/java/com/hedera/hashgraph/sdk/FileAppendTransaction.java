@@ -174,7 +174,7 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
         try {
             for (var i = 0; i < innerSignedTransactions.size(); i += nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size()) {
                 data = data.concat(
-                    TransactionBody.parseFrom(innerSignedTransactions.get(i).getBodyBytes())
+                    TransactionBody.parseFrom(getSignedTransactionAt(i).getBodyBytes())
                         .getFileAppend().getContents()
                 );
             }
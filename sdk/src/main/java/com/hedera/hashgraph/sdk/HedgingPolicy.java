@@ -0,0 +1,151 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.threeten.bp.Duration;
+
+import java.util.Objects;
+
+/**
+ * Decides when a free query which has not answered yet is also sent to a second node.
+ *
+ * The first successful answer is used and the other call is cancelled. Hedges are paid for from a budget which
+ * grows by {@link #getMaxExtraLoad()} for every hedgeable request, so hedging never adds more than that fraction of
+ * extra calls on top of a short burst.
+ *
+ * @see Client#setHedgingPolicy(HedgingPolicy)
+ */
+public final class HedgingPolicy {
+    static final double DEFAULT_MAX_EXTRA_LOAD = 0.1;
+
+    // The most hedges which can be saved up while the network is fast
+    private static final double MAX_BUDGET = 10;
+
+    private final Duration delay;
+
+    private final boolean useNodeP95;
+
+    private volatile double maxExtraLoad = DEFAULT_MAX_EXTRA_LOAD;
+
+    private double budget = 0;
+
+    private HedgingPolicy(Duration delay, boolean useNodeP95) {
+        this.delay = delay;
+        this.useNodeP95 = useNodeP95;
+    }
+
+    /**
+     * Hedge a query which has not answered after a fixed delay.
+     *
+     * @param delay                     the delay before the second node is tried
+     * @return                          the new policy
+     */
+    public static HedgingPolicy afterDelay(Duration delay) {
+        return new HedgingPolicy(requirePositive(delay), false);
+    }
+
+    /**
+     * Hedge a query which has not answered within the 95th percentile latency observed for its node, or within
+     * {@code minDelay} if that is longer.
+     *
+     * @param minDelay                  the shortest delay before the second node is tried
+     * @return                          the new policy
+     */
+    public static HedgingPolicy afterNodeP95(Duration minDelay) {
+        return new HedgingPolicy(requirePositive(minDelay), true);
+    }
+
+    private static Duration requirePositive(Duration delay) {
+        Objects.requireNonNull(delay, "delay must not be null");
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        return delay;
+    }
+
+    /**
+     * Extract the fixed delay, or the minimum delay for a policy based on node latency.
+     *
+     * @return                          the delay
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * Extract the maximum fraction of extra calls hedging may add.
+     *
+     * @return                          the maximum extra load
+     */
+    public double getMaxExtraLoad() {
+        return maxExtraLoad;
+    }
+
+    /**
+     * Assign the maximum fraction of extra calls hedging may add, e.g. {@code 0.1} for at most one hedge per ten
+     * queries. Defaults to {@code 0.1}.
+     *
+     * @param maxExtraLoad              the maximum extra load, between 0 and 1
+     * @return {@code this}
+     */
+    public HedgingPolicy setMaxExtraLoad(double maxExtraLoad) {
+        if (maxExtraLoad < 0 || maxExtraLoad > 1) {
+            throw new IllegalArgumentException("maxExtraLoad must be between 0 and 1");
+        }
+        this.maxExtraLoad = maxExtraLoad;
+        return this;
+    }
+
+    /**
+     * Get how long to wait for a node before hedging.
+     *
+     * @param node                      the node the query was sent to first
+     * @return                          the delay in milliseconds
+     */
+    long getHedgeDelayMillis(ManagedNode<?, ?> node) {
+        var delayMillis = delay.toMillis();
+        if (!useNodeP95) {
+            return delayMillis;
+        }
+
+        return Math.max(delayMillis, (long) (node.getLatencyP95() * 1000.0));
+    }
+
+    /**
+     * Record a hedgeable request, adding to the hedge budget.
+     */
+    synchronized void onRequest() {
+        budget = Math.min(MAX_BUDGET, budget + maxExtraLoad);
+    }
+
+    /**
+     * Take one hedge from the budget.
+     *
+     * @return                          whether a hedge may be sent
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (budget < 1) {
+            return false;
+        }
+
+        budget -= 1;
+        return true;
+    }
+}
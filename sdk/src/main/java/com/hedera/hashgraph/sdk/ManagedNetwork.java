@@ -21,13 +21,15 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
 import java8.util.Lists;
+import java8.util.concurrent.CompletableFuture;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -43,24 +45,37 @@ abstract class ManagedNetwork<
     KeyT,
     ManagedNodeT extends ManagedNode<ManagedNodeT, KeyT>> {
     protected static final Integer DEFAULT_MAX_NODE_ATTEMPTS = -1;
-    protected static final Random random = new Random();
 
     protected final ExecutorService executor;
 
     /**
      * Map of node identifiers to nodes. Used to quickly fetch node for identifier.
+     *
+     * Readers never lock; writers build a new map of unmodifiable lists and swap it in while holding the network lock.
      */
-    protected Map<KeyT, List<ManagedNodeT>> network = new ConcurrentHashMap<>();
+    protected volatile Map<KeyT, List<ManagedNodeT>> network = Collections.emptyMap();
 
     /**
      * The list of all nodes.
+     *
+     * Replaced as a whole while holding the network lock, together with {@link #network}.
      */
-    protected List<ManagedNodeT> nodes = new ArrayList<>();
+    protected volatile List<ManagedNodeT> nodes = new ArrayList<>();
 
     /**
-     * The list of currently healthy nodes.
+     * Immutable snapshot of the currently healthy nodes.
+     *
+     * Readers never lock; writers (backoff and readmission) replace the whole list while holding the network lock.
+     */
+    protected volatile List<ManagedNodeT> healthyNodes = Collections.emptyList();
+
+    /**
+     * Unhealthy nodes waiting for readmission, ordered by {@link ManagedNode#readmitTime}.
+     *
+     * Only accessed while holding the network lock.
      */
-    protected List<ManagedNodeT> healthyNodes = new ArrayList<>();
+    protected final PriorityQueue<ManagedNodeT> readmitQueue =
+        new PriorityQueue<>(11, (a, b) -> a.readmitTime.compareTo(b.readmitTime));
 
     /**
      * The current minimum backoff for the nodes in the network. This backoff is used when nodes return a bad
@@ -74,6 +89,11 @@ abstract class ManagedNetwork<
      */
     protected Duration maxNodeBackoff = Client.DEFAULT_MAX_NODE_BACKOFF;
 
+    /**
+     * The number of gRPC channels each node of the network opens.
+     */
+    protected int channelsPerNode = Client.DEFAULT_CHANNELS_PER_NODE;
+
     /**
      * Timeout for closing either a single node when setting a new network, or closing the entire network.
      */
@@ -99,10 +119,21 @@ abstract class ManagedNetwork<
      */
     protected Duration maxNodeReadmitTime = Client.DEFAULT_MAX_NODE_BACKOFF;
 
+    /**
+     * The strategy used to pick a node out of the healthy nodes.
+     */
+    protected volatile NodeSelectionStrategy nodeSelectionStrategy = NodeSelectionStrategy.random();
+
+    /**
+     * Are backed off nodes readmitted by the health prober after a successful probe, instead of on the request path
+     * once their readmit time has passed?
+     */
+    protected volatile boolean probeBeforeReadmit = false;
+
     /**
      * The instant that readmission will happen after.
      */
-    protected Instant earliestReadmitTime;
+    protected volatile Instant earliestReadmitTime;
 
     /**
      * The name of the network. This corresponds to ledger ID in entity ID checksum calculations
@@ -187,6 +218,32 @@ abstract class ManagedNetwork<
         return (ManagedNetworkT) this;
     }
 
+    /**
+     * Extract the number of gRPC channels each node opens.
+     *
+     * @return                          the number of channels per node
+     */
+    int getChannelsPerNode() {
+        return channelsPerNode;
+    }
+
+    /**
+     * Set the number of gRPC channels each node opens.
+     *
+     * @param channelsPerNode           the number of channels per node
+     * @return {@code this}
+     */
+    synchronized ManagedNetworkT setChannelsPerNode(int channelsPerNode) {
+        this.channelsPerNode = channelsPerNode;
+
+        for (var node : nodes) {
+            node.setChannelPoolSize(channelsPerNode);
+        }
+
+        // noinspection unchecked
+        return (ManagedNetworkT) this;
+    }
+
     /**
      * Extract the maximum node backoff time.
      *
@@ -227,12 +284,16 @@ abstract class ManagedNetwork<
      *
      * @param minNodeReadmitTime        the minimum node readmit time
      */
-    public void setMinNodeReadmitTime(Duration minNodeReadmitTime) {
+    public synchronized void setMinNodeReadmitTime(Duration minNodeReadmitTime) {
         this.minNodeReadmitTime = minNodeReadmitTime;
 
+        var now = Instant.now();
         for (var node : nodes) {
-            node.readmitTime = Instant.now();
+            node.readmitTime = now;
         }
+
+        // Every queued node now shares the same readmit time, so the queue order is still valid
+        earliestReadmitTime = now;
     }
 
     /**
@@ -253,6 +314,28 @@ abstract class ManagedNetwork<
         this.maxNodeReadmitTime = maxNodeReadmitTime;
     }
 
+    /**
+     * Extract the node selection strategy.
+     *
+     * @return                          the node selection strategy
+     */
+    NodeSelectionStrategy getNodeSelectionStrategy() {
+        return nodeSelectionStrategy;
+    }
+
+    /**
+     * Assign the strategy used to pick a node out of the healthy nodes.
+     *
+     * @param nodeSelectionStrategy     the node selection strategy
+     * @return {@code this}
+     */
+    ManagedNetworkT setNodeSelectionStrategy(NodeSelectionStrategy nodeSelectionStrategy) {
+        this.nodeSelectionStrategy = Objects.requireNonNull(nodeSelectionStrategy);
+
+        // noinspection unchecked
+        return (ManagedNetworkT) this;
+    }
+
     /**
      * Is transport Security enabled?
      *
@@ -271,17 +354,28 @@ abstract class ManagedNetwork<
      */
     synchronized ManagedNetworkT setTransportSecurity(boolean transportSecurity) throws InterruptedException {
         if (this.transportSecurity != transportSecurity) {
-            network.clear();
-
-            for (int i = 0; i < nodes.size(); i++) {
-                @Var var node = nodes.get(i);
-                node.close(closeTimeout);
-
-                node = transportSecurity ? node.toSecure() : node.toInsecure();
-
-                nodes.set(i, node);
-                getNodesForKey(node.getKey()).add(node);
+            var healthy = Collections.newSetFromMap(new IdentityHashMap<ManagedNodeT, Boolean>());
+            healthy.addAll(healthyNodes);
+            var newNodes = new ArrayList<ManagedNodeT>(nodes.size());
+            var newHealthyNodes = new ArrayList<ManagedNodeT>(healthy.size());
+            readmitQueue.clear();
+
+            for (var oldNode : nodes) {
+                oldNode.close(closeTimeout);
+
+                var node = transportSecurity ? oldNode.toSecure() : oldNode.toInsecure();
+                newNodes.add(node);
+
+                if (healthy.contains(oldNode)) {
+                    newHealthyNodes.add(node);
+                } else {
+                    readmitQueue.add(node);
+                }
             }
+
+            nodes = newNodes;
+            network = buildNetwork(newNodes);
+            setHealthyNodes(newHealthyNodes);
         }
 
         this.transportSecurity = transportSecurity;
@@ -315,46 +409,52 @@ abstract class ManagedNetwork<
     protected abstract ManagedNodeT createNodeFromNetworkEntry(Map.Entry<String, KeyT> entry);
 
     /**
-     * Returns a list of index in descending order to remove from the current node list.
-     *
-     * Descending order is important here because {@link ManagedNetwork#setNetwork(Map<String, KeyT>)} uses a for-each loop.
+     * Swap in a new set of healthy nodes.
      *
-     * @param network - the new network
-     * @return - list of indexes in descending order
+     * @param newHealthyNodes           the healthy nodes
      */
-    protected List<Integer> getNodesToRemove(Map<String, KeyT> network) {
-        var nodes = new ArrayList<Integer>(this.nodes.size());
-
-        for (int i = this.nodes.size() - 1; i >= 0; i--) {
-            var node = this.nodes.get(i);
+    private void setHealthyNodes(List<ManagedNodeT> newHealthyNodes) {
+        healthyNodes = Collections.unmodifiableList(newHealthyNodes);
+        onHealthyNodesChanged();
+    }
 
-            if (!nodeIsInGivenNetwork(node, network)) {
-                nodes.add(i);
-            }
-        }
+    /**
+     * Called whenever the set of healthy nodes changes, with the lock of this network held.
+     */
+    protected void onHealthyNodesChanged() {
+        // Do nothing
+    }
 
-        return nodes;
+    /**
+     * Identify a node by its key and address, ignoring the port, so a node survives switching transport security.
+     *
+     * @param key                       the node's key
+     * @param address                   the node's address
+     * @return                          the identity of the node
+     */
+    private static <KeyT> Map.Entry<KeyT, String> nodeIdentity(KeyT key, ManagedNodeAddress address) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, address.isInProcess() ? address.getName() : address.getAddress());
     }
 
-    private boolean nodeIsInGivenNetwork(ManagedNodeT node, Map<String,KeyT> network) {
-        for (var entry : network.entrySet()) {
-            if (
-                node.getKey().equals(entry.getValue()) &&
-                node.address.equals(ManagedNodeAddress.fromString(entry.getKey()))
-            ) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Identify a network entry by its key and full address, port included.
+     *
+     * @param key                       the node's key
+     * @param address                   the node's address
+     * @return                          the identity of the entry
+     */
+    private static <KeyT> Map.Entry<KeyT, String> entryIdentity(KeyT key, ManagedNodeAddress address) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, address.toString());
     }
 
     /**
      * Intelligently overwrites the current network.
      *
-     * Shutdown and remove any node from the current network if the new network doesn't contain it. This includes
-     * checking both the URL and {@link AccountId} when the network is a {@link Network}.
-     *
-     * Add any nodes from the new network that don't already exist in the network.
+     * Nodes are matched to the entries of the new network by their key and address. A node listed at the same address
+     * is kept; otherwise a node listed at the same host on another port is reused, so nodes survive switching transport
+     * security. Kept nodes keep their channels, health and backoff state; other entries get new nodes. The same host on
+     * two ports is two nodes. The new set of nodes is swapped in at once, and the channels of removed nodes are shut
+     * down without waiting for them, so calls still in flight on them can complete.
      *
      * @param network - The new network
      * @return - {@code this}
@@ -362,90 +462,288 @@ abstract class ManagedNetwork<
      * @throws InterruptedException - when acquiring the lock
      */
     synchronized ManagedNetworkT setNetwork(Map<String, KeyT> network) throws TimeoutException, InterruptedException {
-        var newNodes = new ArrayList<ManagedNodeT>();
-        var newHealthyNodes = new ArrayList<ManagedNodeT>(newNodes.size());
-        var newNetwork = new HashMap<KeyT, List<ManagedNodeT>>(newNodes.size());
-        var newNodeKeys = new HashSet<KeyT>();
-        var newNodeAddresses = new HashSet<String>();
-
-        // getNodesToRemove() should always return the list in reverse order
-        for (var index : getNodesToRemove(network)) {
-            var stopAt = Instant.now().getEpochSecond() + closeTimeout.getSeconds();
-            var remainingTime = stopAt - Instant.now().getEpochSecond();
-            var node = nodes.get(index);
-
-            // Exit early if we have no time remaining
-            if (remainingTime <= 0) {
-                throw new TimeoutException("Failed to properly shutdown all channels");
+        var currentNodes = new HashMap<Map.Entry<KeyT, String>, ManagedNodeT>(nodes.size());
+        for (var node : nodes) {
+            currentNodes.put(entryIdentity(node.getKey(), node.address), node);
+        }
+
+        var entries = new ArrayList<Map.Entry<String, KeyT>>(network.size());
+        var addresses = new ArrayList<ManagedNodeAddress>(network.size());
+        var matchedNodes = new ArrayList<ManagedNodeT>(network.size());
+        var seen = new HashSet<Map.Entry<KeyT, String>>(network.size());
+
+        // Keep the nodes listed at the same address first, so a node at another port is only reused when it is free
+        for (var entry : network.entrySet()) {
+            var address = ManagedNodeAddress.fromString(entry.getKey());
+            var identity = entryIdentity(entry.getValue(), address);
+
+            if (!seen.add(identity)) {
+                continue;
             }
 
-            removeNodeFromNetwork(node);
-            node.close(Duration.ofSeconds(remainingTime));
-            this.nodes.remove(index.intValue());
+            entries.add(entry);
+            addresses.add(address);
+            matchedNodes.add(currentNodes.remove(identity));
         }
 
-        for (var node : this.nodes) {
-            newNodes.add(node);
-            newNodeKeys.add(node.getKey());
-            newNodeAddresses.add(node.address.toString());
+        var movedNodes = new HashMap<Map.Entry<KeyT, String>, ArrayDeque<ManagedNodeT>>(currentNodes.size());
+        for (var node : currentNodes.values()) {
+            var identity = nodeIdentity(node.getKey(), node.address);
+
+            @Nullable
+            @Var
+            var nodesAtHost = movedNodes.get(identity);
+            if (nodesAtHost == null) {
+                nodesAtHost = new ArrayDeque<>();
+                movedNodes.put(identity, nodesAtHost);
+            }
+
+            nodesAtHost.add(node);
         }
 
-        for (var entry : network.entrySet()) {
-            var node = createNodeFromNetworkEntry(entry);
+        var newNodes = new ArrayList<ManagedNodeT>(entries.size());
 
-            if (newNodeKeys.contains(node.getKey()) && newNodeAddresses.contains(node.getAddress().toString())) {
-                continue;
+        for (var i = 0; i < entries.size(); i++) {
+            var entry = entries.get(i);
+
+            @Nullable
+            @Var
+            var node = matchedNodes.get(i);
+            if (node == null) {
+                @Nullable
+                var moved = movedNodes.get(nodeIdentity(entry.getValue(), addresses.get(i)));
+                node = moved != null ? moved.poll() : null;
+            }
+
+            if (node == null) {
+                node = createNodeFromNetworkEntry(entry).setChannelPoolSize(channelsPerNode);
             }
 
             newNodes.add(node);
         }
 
-        for (var node : newNodes) {
-            if (newNetwork.containsKey(node.getKey())) {
-                newNetwork.get(node.getKey()).add(node);
-            } else {
-                var list = new ArrayList<ManagedNodeT>();
-                list.add(node);
-                newNetwork.put(node.getKey(), list);
+        var kept = Collections.newSetFromMap(new IdentityHashMap<ManagedNodeT, Boolean>());
+        kept.addAll(newNodes);
+
+        // Whatever was not matched is no longer part of the network
+        var removedNodes = new ArrayList<ManagedNodeT>();
+        for (var moved : movedNodes.values()) {
+            removedNodes.addAll(moved);
+        }
+
+        var queued = Collections.newSetFromMap(new IdentityHashMap<ManagedNodeT, Boolean>());
+        for (var node : readmitQueue) {
+            if (kept.contains(node)) {
+                queued.add(node);
             }
+        }
 
-            newHealthyNodes.add(node);
+        var newHealthyNodes = new ArrayList<ManagedNodeT>(newNodes.size());
+        for (var node : newNodes) {
+            if (!queued.contains(node)) {
+                newHealthyNodes.add(node);
+            }
         }
 
         // Atomically set all the variables
         nodes = newNodes;
-        this.network = newNetwork;
-        healthyNodes = newHealthyNodes;
+        this.network = buildNetwork(newNodes);
+        readmitQueue.retainAll(queued);
+        setHealthyNodes(newHealthyNodes);
+
+        for (var node : removedNodes) {
+            node.shutdownChannels();
+        }
 
         // noinspection unchecked
         return (ManagedNetworkT) this;
     }
 
-    void increaseBackoff(ManagedNodeT node) {
+    /**
+     * Extract whether backed off nodes wait for a successful health probe before readmission.
+     *
+     * @return                          are nodes readmitted by the health prober
+     */
+    boolean isProbeBeforeReadmit() {
+        return probeBeforeReadmit;
+    }
+
+    /**
+     * Assign whether backed off nodes wait for a successful health probe before readmission. Turning it off lets
+     * the nodes waiting for a probe be readmitted on the request path again.
+     *
+     * @param probeBeforeReadmit        should nodes be readmitted by the health prober
+     * @return {@code this}
+     */
+    synchronized ManagedNetworkT setProbeBeforeReadmit(boolean probeBeforeReadmit) {
+        this.probeBeforeReadmit = probeBeforeReadmit;
+
+        if (!probeBeforeReadmit) {
+            for (var node : nodes) {
+                node.awaitingProbe = false;
+            }
+        }
+
+        // noinspection unchecked
+        return (ManagedNetworkT) this;
+    }
+
+    /**
+     * Extract the backed off nodes whose readmit time has passed and which wait for a health probe.
+     *
+     * @return                          the nodes to probe
+     */
+    synchronized List<ManagedNodeT> getNodesDueForProbe() {
+        var now = Instant.now();
+        var due = new ArrayList<ManagedNodeT>();
+
+        for (var node : readmitQueue) {
+            if (node.awaitingProbe && node.readmitTime.isBefore(now)) {
+                due.add(node);
+            }
+        }
+
+        return due;
+    }
+
+    /**
+     * Extract the healthy nodes which have not been used since a given time.
+     *
+     * @param usedBefore                the time in milliseconds since the epoch
+     * @return                          the idle nodes
+     */
+    List<ManagedNodeT> getIdleNodes(long usedBefore) {
+        var idle = new ArrayList<ManagedNodeT>();
+
+        for (var node : healthyNodes) {
+            if (node.getLastUsed() < usedBefore) {
+                idle.add(node);
+            }
+        }
+
+        return idle;
+    }
+
+    /**
+     * Readmit a node after it answered a health probe.
+     *
+     * @param node                      the node which answered
+     */
+    synchronized void readmitNode(ManagedNodeT node) {
+        node.awaitingProbe = false;
+
+        // The node may have been removed from the network while the probe was in flight
+        if (!readmitQueue.remove(node) || !nodes.contains(node)) {
+            return;
+        }
+
+        var newHealthyNodes = new ArrayList<>(healthyNodes);
+        newHealthyNodes.add(node);
+        setHealthyNodes(newHealthyNodes);
+    }
+
+    /**
+     * Increase the backoff of a node and move it from the healthy set to the readmission queue.
+     *
+     * @param node                      the node which received a bad gRPC status
+     */
+    synchronized void increaseBackoff(ManagedNodeT node) {
+        // The node may already be queued; its readmit time is about to change so it must be re-inserted
+        readmitQueue.remove(node);
         node.increaseBackoff();
-        healthyNodes.remove(node);
+        node.awaitingProbe = probeBeforeReadmit;
+        readmitQueue.add(node);
+
+        var currentHealthyNodes = healthyNodes;
+        if (currentHealthyNodes.contains(node)) {
+            var newHealthyNodes = new ArrayList<>(currentHealthyNodes);
+            newHealthyNodes.remove(node);
+            setHealthyNodes(newHealthyNodes);
+        }
+
+        if (node.readmitTime.isBefore(earliestReadmitTime)) {
+            earliestReadmitTime = node.readmitTime;
+        }
+    }
+
+    /**
+     * Connect to every node of the network concurrently and back off the nodes which cannot be reached in time.
+     * <p>
+     * With transport security enabled a connection only becomes ready once the node's certificate is verified, so
+     * nodes failing verification are backed off as well.
+     *
+     * @param timeout                   how long to wait for all the nodes together
+     * @return                          the number of nodes which connected
+     * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    int warmUp(Duration timeout) throws InterruptedException {
+        List<ManagedNodeT> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(nodes);
+        }
+
+        var futures = new ArrayList<CompletableFuture<Boolean>>(snapshot.size());
+        for (var node : snapshot) {
+            futures.add(channelFailedToConnectAsync(node, timeout));
+        }
+
+        @Var var connected = 0;
+        for (var i = 0; i < snapshot.size(); i++) {
+            @Var var failed = true;
+            try {
+                failed = futures.get(i).get();
+            } catch (ExecutionException e) {
+                // treated as a failed connection
+            }
+
+            if (failed) {
+                increaseBackoff(snapshot.get(i));
+            } else {
+                connected++;
+            }
+        }
+
+        return connected;
+    }
+
+    private static CompletableFuture<Boolean> channelFailedToConnectAsync(ManagedNode<?, ?> node, Duration timeout) {
+        try {
+            return node.channelFailedToConnectAsync().completeOnTimeout(true, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(true);
+        }
     }
 
     void decreaseBackoff(ManagedNodeT node) {
         node.decreaseBackoff();
     }
 
-    private void removeNodeFromNetwork(ManagedNodeT node) {
-        var nodesForKey = this.network.get(node.getKey());
-        nodesForKey.remove(node);
-        if (nodesForKey.isEmpty()) {
-            this.network.remove(node.getKey());
+    /**
+     * Group nodes by key into a new map for {@link #network}, which is never changed once it is swapped in.
+     *
+     * @param nodes                     the nodes of the network
+     * @return                          the nodes of each key
+     */
+    private Map<KeyT, List<ManagedNodeT>> buildNetwork(List<ManagedNodeT> nodes) {
+        var grouped = new HashMap<KeyT, List<ManagedNodeT>>(nodes.size());
+        for (var node : nodes) {
+            @Nullable
+            @Var
+            var nodesForKey = grouped.get(node.getKey());
+            if (nodesForKey == null) {
+                nodesForKey = new ArrayList<>();
+                grouped.put(node.getKey(), nodesForKey);
+            }
+
+            nodesForKey.add(node);
         }
-    }
 
-    private List<ManagedNodeT> getNodesForKey(KeyT key) {
-        if (network.containsKey(key)) {
-            return network.get(key);
-        } else {
-            var newList = new ArrayList<ManagedNodeT>();
-            network.put(key, newList);
-            return newList;
+        var network = new HashMap<KeyT, List<ManagedNodeT>>(grouped.size());
+        for (var entry : grouped.entrySet()) {
+            network.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
         }
+
+        return Collections.unmodifiableMap(network);
     }
 
     private boolean addressIsInNodeList(String addressString, List<ManagedNodeT> nodes) {
@@ -465,81 +763,119 @@ abstract class ManagedNetwork<
      */
     protected void removeDeadNodes() throws InterruptedException {
         if (maxNodeAttempts > 0) {
-            for (int i = nodes.size() - 1; i >= 0; i--) {
-                var node = Objects.requireNonNull(nodes.get(i));
+            var newNodes = new ArrayList<ManagedNodeT>(nodes.size());
+            var deadNodes = new ArrayList<ManagedNodeT>();
 
+            for (var node : nodes) {
                 if (node.getBadGrpcStatusCount() >= maxNodeAttempts) {
-                    node.close(closeTimeout);
-                    removeNodeFromNetwork(node);
-                    nodes.remove(i);
+                    deadNodes.add(node);
+                } else {
+                    newNodes.add(node);
                 }
             }
+
+            if (deadNodes.isEmpty()) {
+                return;
+            }
+
+            nodes = newNodes;
+            network = buildNetwork(newNodes);
+
+            var newHealthyNodes = new ArrayList<>(healthyNodes);
+            newHealthyNodes.removeAll(deadNodes);
+            readmitQueue.removeAll(deadNodes);
+            setHealthyNodes(newHealthyNodes);
+
+            for (var node : deadNodes) {
+                node.close(closeTimeout);
+            }
         }
     }
 
     /**
-     * Readmits nodes from the `nodes` list into the `healthyNodes` list when the time is passed the
+     * Readmits nodes from the readmission queue into the `healthyNodes` list when the time is passed the
      * {@code earliestReadmitTime}. While readmitting nodes the `earliestReadmitTime` will be updated to
      * a new value. This value is either the value of the node with the smallest readmission time from now,
      * or `minNodeReadmitTime` or `maxNodeReadmitTime`.
+     *
+     * The common case, where nothing is due for readmission, is a single volatile read and takes no lock.
+     *
+     * With {@link #probeBeforeReadmit} set the health prober readmits nodes instead, unless no node is healthy at
+     * all; requests then fall back to the nodes which are due, as they would without probing.
      */
-    synchronized void readmitNodes() {
-        var now = Instant.now();
+    void readmitNodes() {
+        if (!Instant.now().isAfter(earliestReadmitTime)) {
+            return;
+        }
 
-        if (now.toEpochMilli() > earliestReadmitTime.toEpochMilli()) {
-            var nextEarliestReadmitTime = now.plus(maxNodeReadmitTime);
+        if (probeBeforeReadmit && !healthyNodes.isEmpty()) {
+            return;
+        }
 
-            for (var node : this.nodes) {
-                if (node.readmitTime.isAfter(now) && node.readmitTime.isBefore(nextEarliestReadmitTime)) {
-                    nextEarliestReadmitTime = node.readmitTime;
-                }
+        synchronized (this) {
+            var now = Instant.now();
+
+            // Another thread may have readmitted nodes while we were waiting for the lock
+            if (!now.isAfter(earliestReadmitTime)) {
+                return;
             }
 
+            var readmitted = new ArrayList<ManagedNodeT>();
+            while (!readmitQueue.isEmpty() && readmitQueue.peek().readmitTime.isBefore(now)) {
+                var node = readmitQueue.poll();
+                node.awaitingProbe = false;
+                readmitted.add(node);
+            }
 
-            this.earliestReadmitTime = nextEarliestReadmitTime;
-            if (this.earliestReadmitTime.isBefore(now.plus(minNodeReadmitTime))) {
-                this.earliestReadmitTime = now.plus(minNodeReadmitTime);
+            if (!readmitted.isEmpty()) {
+                var newHealthyNodes = new ArrayList<>(healthyNodes);
+                newHealthyNodes.addAll(readmitted);
+                setHealthyNodes(newHealthyNodes);
             }
 
-            outer: for (var i = 0; i < this.nodes.size(); i++) {
-                // Check if `healthyNodes` already contains this node
-                for (var j = 0; j < this.healthyNodes.size(); j++) {
-                    if (this.nodes.get(i) == this.healthyNodes.get(j)) {
-                        continue outer;
-                    }
-                }
+            @Var var nextEarliestReadmitTime = now.plus(maxNodeReadmitTime);
+            var next = readmitQueue.peek();
+            if (next != null && next.readmitTime.isBefore(nextEarliestReadmitTime)) {
+                nextEarliestReadmitTime = next.readmitTime;
+            }
 
-                // If `healthyNodes` doesn't contain the node, check the `readmitTime` on the node
-                if (this.nodes.get(i).readmitTime.isBefore(now)) {
-                    this.healthyNodes.add(this.nodes.get(i));
-                }
+            if (nextEarliestReadmitTime.isBefore(now.plus(minNodeReadmitTime))) {
+                nextEarliestReadmitTime = now.plus(minNodeReadmitTime);
             }
 
+            earliestReadmitTime = nextEarliestReadmitTime;
         }
     }
 
     /**
-     * Get a random node by key, or if null get a random healthy node.
+     * Get a random node by key, or if null get a healthy node chosen by the {@link NodeSelectionStrategy}.
+     *
+     * This does not take the network lock, so it can be called concurrently from every request.
      *
      * @param key                       the desired key
      * @return                          the node
      */
-    synchronized ManagedNodeT getNode(@Nullable KeyT key) {
+    ManagedNodeT getNode(@Nullable KeyT key) {
         // Attempt to readmit nodes each time a node is fetched.
         // Note: Readmitting nodes will only happen periodically so calling it each time should not harm
         // performance.
         readmitNodes();
 
         if (key == null) {
-            if (healthyNodes.isEmpty()) {
-                throw new IllegalStateException("No healthy node was found");
-            }
-
-            return healthyNodes.get(random.nextInt(healthyNodes.size()));
+            return selectHealthyNode(healthyNodes);
         }
 
+        // The map and its lists are never changed once published, so reading them needs no lock
         var list = network.get(key);
-        return list.get(random.nextInt(list.size()));
+        return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+    }
+
+    private ManagedNodeT selectHealthyNode(List<ManagedNodeT> healthyNodes) {
+        if (healthyNodes.isEmpty()) {
+            throw new IllegalStateException("No healthy node was found");
+        }
+
+        return nodeSelectionStrategy.select(healthyNodes);
     }
 
     /**
@@ -552,18 +888,37 @@ abstract class ManagedNetwork<
      * @return                          List of nodes to use
      * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    protected synchronized List<ManagedNodeT> getNumberOfMostHealthyNodes(int count) throws InterruptedException {
+    protected List<ManagedNodeT> getNumberOfMostHealthyNodes(int count) throws InterruptedException {
         readmitNodes();
-        removeDeadNodes();
 
-        var returnNodes = new HashMap<KeyT, ManagedNodeT>(count);
+        if (maxNodeAttempts > 0) {
+            synchronized (this) {
+                removeDeadNodes();
+            }
+        }
 
-        for (var i = 0; i < count; i++ ) {
-            var node = getNode(null);
+        // Select from a single snapshot so concurrent backoff changes can't be observed half-way through
+        var healthyNodes = this.healthyNodes;
+        if (count > 0 && healthyNodes.isEmpty()) {
+            throw new IllegalStateException("No healthy node was found");
+        }
+
+        // Kept in the order the strategy picked them, which is the order they are tried in
+        var returnNodes = new LinkedHashMap<KeyT, ManagedNodeT>(count);
+
+        // Each pick is made among the nodes whose key was not picked yet, so every pick adds a node
+        @Var var candidates = healthyNodes;
+        while (returnNodes.size() < count && !candidates.isEmpty()) {
+            var node = selectHealthyNode(candidates);
+            returnNodes.put(node.getKey(), node);
 
-            if (!returnNodes.containsKey(node.getKey())) {
-                returnNodes.put(node.getKey(), node);
+            var remaining = new ArrayList<ManagedNodeT>(candidates.size() - 1);
+            for (var candidate : candidates) {
+                if (!candidate.getKey().equals(node.getKey())) {
+                    remaining.add(candidate);
+                }
             }
+            candidates = remaining;
         }
 
         return Lists.copyOf(returnNodes.values());
@@ -591,9 +946,7 @@ abstract class ManagedNetwork<
 
         // Start the shutdown process on all nodes
         for (var node : nodes) {
-            if (node.channel != null) {
-                node.channel = node.channel.shutdown();
-            }
+            node.shutdownChannels();
         }
 
         // Await termination for all nodes
@@ -602,17 +955,17 @@ abstract class ManagedNetwork<
                 throw new TimeoutException("Failed to properly shutdown all channels");
             }
 
-            if (node.channel != null) {
-                // InterruptedException needs to be caught here to prevent early exist without releasing lock
-                try {
-                    node.channel.awaitTermination(stopAt - Instant.now().getEpochSecond(), TimeUnit.SECONDS);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+            // InterruptedException needs to be caught here to prevent early exist without releasing lock
+            try {
+                node.awaitChannelsTermination(stopAt - Instant.now().getEpochSecond());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
             }
         }
 
-        nodes.clear();
-        network.clear();
+        nodes = new ArrayList<>();
+        network = Collections.emptyMap();
+        readmitQueue.clear();
+        healthyNodes = Collections.emptyList();
     }
 }
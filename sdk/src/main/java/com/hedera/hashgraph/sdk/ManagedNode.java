@@ -20,22 +20,32 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
 import io.grpc.ChannelCredentials;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
 import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
 import io.grpc.Grpc;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import java8.util.Objects;
 import java8.util.concurrent.CompletableFuture;
-import java8.util.concurrent.CompletableFuture;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Internal utility class.
@@ -44,10 +54,18 @@ import java.util.concurrent.TimeUnit;
  * @param <KeyT>                        the key t type
  */
 abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comparable<ManagedNode<N, KeyT>> {
-    private static final int GET_STATE_INTERVAL_MILLIS = 50;
     private static final int GET_STATE_TIMEOUT_MILLIS = 10000;
-    private static final int GET_STATE_MAX_ATTEMPTS = GET_STATE_TIMEOUT_MILLIS / GET_STATE_INTERVAL_MILLIS;
-    private boolean hasConnected = false;
+
+    /**
+     * Weight given to the newest sample in the latency and success moving averages
+     */
+    private static final double EWMA_ALPHA = 0.3;
+
+    /**
+     * Lower bound for the success average so a failing node gets a large, but finite, latency score
+     */
+    private static final double MIN_SUCCESS_EWMA = 0.01;
+    private volatile boolean hasConnected = false;
 
     protected final ExecutorService executor;
 
@@ -60,18 +78,24 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
      * Timestamp of when the last time this node was used in milliseconds.
      * This field is used for healthy-ness calculation.
      */
-    protected long lastUsed = 0;
+    protected volatile long lastUsed = 0;
 
     /**
      * Amount of times this node has been used. "Used" means the channel was used to submit a request.
      * This field is used for healthy-ness calculation
      */
-    protected long useCount = 0;
+    protected final AtomicLong useCount = new AtomicLong();
 
     /**
      * Timestamp of when this node will be considered healthy again
      */
-    protected Instant readmitTime;
+    protected volatile Instant readmitTime;
+
+    /**
+     * Set when this node backed off while health probing is enabled. The node is then only readmitted after a
+     * successful probe, even once its readmit time has passed.
+     */
+    protected volatile boolean awaitingProbe = false;
 
     /**
      * The current backoff duration. Uses exponential backoff so think 1s, 2s, 4s, 8s, etc until maxBackoff is hit
@@ -93,8 +117,38 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
      */
     protected long badGrpcStatusCount;
 
+    /**
+     * Exponentially weighted moving average of the response latency of this node in seconds.
+     * This field is used by {@link NodeSelectionStrategy#latencyAware()}.
+     */
+    protected volatile double latencyEwma = 0;
+
+    /**
+     * Exponentially weighted moving variance of the response latency of this node in seconds squared.
+     */
+    protected volatile double latencyVarianceEwma = 0;
+
+    /**
+     * Exponentially weighted moving average of successful responses; 1.0 means every recent request succeeded.
+     * This field is used by {@link NodeSelectionStrategy#latencyAware()}.
+     */
+    protected volatile double successEwma = 1.0;
+
+    /**
+     * Number of responses recorded in the moving averages
+     */
+    protected long responseCount = 0;
+
+    /**
+     * Number of gRPC channels, and so HTTP/2 connections, opened to this node
+     */
+    protected volatile int channelPoolSize = Client.DEFAULT_CHANNELS_PER_NODE;
+
+    /**
+     * The channels to this node, created on first use. Replaced as a whole, never modified in place.
+     */
     @Nullable
-    protected ManagedChannel channel = null;
+    protected volatile PooledChannel[] channels = null;
 
     /**
      * Constructor.
@@ -124,10 +178,16 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
         this.minBackoff = node.minBackoff;
         this.maxBackoff = node.maxBackoff;
         this.readmitTime = node.readmitTime;
+        this.awaitingProbe = node.awaitingProbe;
         this.currentBackoff = node.currentBackoff;
         this.badGrpcStatusCount = node.badGrpcStatusCount;
         this.lastUsed = node.lastUsed;
-        this.useCount = node.useCount;
+        this.useCount.set(node.useCount.get());
+        this.channelPoolSize = node.channelPoolSize;
+        this.latencyEwma = node.latencyEwma;
+        this.latencyVarianceEwma = node.latencyVarianceEwma;
+        this.successEwma = node.successEwma;
+        this.responseCount = node.responseCount;
     }
 
     /**
@@ -237,14 +297,43 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
     /**
      * Determines if this is node is healthy.
      * Healthy means the node has either not received any bad gRPC statuses, or if it has received bad gRPC status then
-     * the node backed off for a period of time.
+     * the node backed off for a period of time. A node waiting for a health probe is not healthy until the probe
+     * succeeds.
      *
      * @return                          is the node healthy
      */
     boolean isHealthy() {
+        return !awaitingProbe && readmitTime.toEpochMilli() < Instant.now().toEpochMilli();
+    }
+
+    /**
+     * Has the backoff of this node ended? Unlike {@link #isHealthy()} this ignores whether the node waits for a
+     * health probe.
+     *
+     * @return                          has the readmit time passed
+     */
+    boolean isBackoffElapsed() {
         return readmitTime.toEpochMilli() < Instant.now().toEpochMilli();
     }
 
+    /**
+     * Is this node waiting for a successful health probe before it is readmitted?
+     *
+     * @return                          is the node waiting for a probe
+     */
+    boolean isAwaitingProbe() {
+        return awaitingProbe;
+    }
+
+    /**
+     * Extract the time this node was last used to send a request.
+     *
+     * @return                          the time in milliseconds since the epoch, zero if never used
+     */
+    long getLastUsed() {
+        return lastUsed;
+    }
+
     /**
      * Used when a node has received a bad gRPC status
      */
@@ -266,6 +355,49 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
         this.currentBackoff = currentBackoff.compareTo(minBackoff) > 0 ? currentBackoff : minBackoff;
     }
 
+    /**
+     * Record the outcome of a request sent to this node.
+     *
+     * @param latency                   the time between sending the request and receiving the outcome, in seconds
+     * @param success                   whether the node handled the request; false for transport failures and
+     *                                  for responses which indicate the node is busy or not active
+     */
+    synchronized void recordResponse(@Var double latency, boolean success) {
+        // A fast failure must not make the node look faster than it is
+        if (!success) {
+            latency = Math.max(latency, latencyEwma);
+        }
+
+        if (responseCount == 0) {
+            latencyEwma = latency;
+        } else {
+            var deviation = latency - latencyEwma;
+            latencyEwma += EWMA_ALPHA * deviation;
+            latencyVarianceEwma = (1 - EWMA_ALPHA) * (latencyVarianceEwma + EWMA_ALPHA * deviation * deviation);
+        }
+
+        successEwma += EWMA_ALPHA * ((success ? 1.0 : 0.0) - successEwma);
+        responseCount++;
+    }
+
+    /**
+     * Get the latency score of this node; lower is better.
+     *
+     * @return                          the average latency divided by the average success rate
+     */
+    double getLatencyScore() {
+        return latencyEwma / Math.max(successEwma, MIN_SUCCESS_EWMA);
+    }
+
+    /**
+     * Estimate the 95th percentile of the response latency of this node, assuming roughly normal latencies.
+     *
+     * @return                          the estimated latency in seconds, zero before the first response
+     */
+    double getLatencyP95() {
+        return latencyEwma + 1.645 * Math.sqrt(latencyVarianceEwma);
+    }
+
     /**
      * Get the amount of time the node has to wait until it's healthy again
      *
@@ -287,24 +419,108 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
     /**
      * Update use counters and update last used time stamp.
      */
-    synchronized void inUse() {
-        useCount++;
+    void inUse() {
+        useCount.incrementAndGet();
         lastUsed = System.currentTimeMillis();
     }
 
     /**
-     * Get the gRPC channel for this node
+     * Get the number of gRPC channels opened to this node.
+     *
+     * @return                          the channel pool size
+     */
+    int getChannelPoolSize() {
+        return channelPoolSize;
+    }
+
+    /**
+     * Set the number of gRPC channels to open to this node.
+     * <p>
+     * Existing channels are shut down gracefully, letting calls in flight finish, and the new pool is created on the
+     * next call.
+     *
+     * @param channelPoolSize           the channel pool size
+     * @return {@code this}
+     */
+    synchronized N setChannelPoolSize(int channelPoolSize) {
+        if (this.channelPoolSize != channelPoolSize) {
+            this.channelPoolSize = channelPoolSize;
+            shutdownChannels();
+            channels = null;
+        }
+
+        // noinspection unchecked
+        return (N) this;
+    }
+
+    /**
+     * Get a gRPC channel for this node, the one with the fewest outstanding calls when there is more than one.
+     * <p>
+     * This only locks the first time, when the channels are created.
      *
      * @return                          the channel
      */
-    synchronized ManagedChannel getChannel() {
+    ManagedChannel getChannel() {
         inUse();
 
-        if (channel != null) {
-            return channel;
+        var pool = getChannels();
+
+        @Var var selected = pool[0];
+        for (var i = 1; i < pool.length; i++) {
+            if (pool[i].outstandingCalls.get() < selected.outstandingCalls.get()) {
+                selected = pool[i];
+            }
+        }
+
+        return selected.channel;
+    }
+
+    private PooledChannel[] getChannels() {
+        var pool = channels;
+        return pool != null ? pool : createChannels();
+    }
+
+    private synchronized PooledChannel[] createChannels() {
+        if (channels != null) {
+            return channels;
         }
 
-        ManagedChannelBuilder<?> channelBuilder;
+        var pool = new PooledChannel[channelPoolSize];
+        for (var i = 0; i < pool.length; i++) {
+            pool[i] = new PooledChannel(createChannelBuilder());
+            watchChannelState(pool[i].channel, pool[i].channel.getState(false));
+        }
+
+        channels = pool;
+        return pool;
+    }
+
+    /**
+     * Report every state transition of a channel to {@link #onChannelStateChanged(ConnectivityState)} until it shuts
+     * down. Unlike {@link #awaitChannelReady} this does not ask an idle channel to connect.
+     *
+     * @param channel                   the channel to watch
+     * @param state                     the last observed state of the channel
+     */
+    private void watchChannelState(ManagedChannel channel, ConnectivityState state) {
+        onChannelStateChanged(state);
+
+        if (state != ConnectivityState.SHUTDOWN) {
+            channel.notifyWhenStateChanged(state, () -> watchChannelState(channel, channel.getState(false)));
+        }
+    }
+
+    /**
+     * Called whenever one of the channels of this node changes state, and with the initial state of a new channel.
+     *
+     * @param state                     the new state of the channel
+     */
+    void onChannelStateChanged(ConnectivityState state) {
+        // Do nothing
+    }
+
+    private ManagedChannelBuilder<?> createChannelBuilder() {
+        @Var ManagedChannelBuilder<?> channelBuilder;
 
         if (address.isInProcess()) {
             channelBuilder = InProcessChannelBuilder.forName(Objects.requireNonNull(address.getName()));
@@ -319,56 +535,68 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
             channelBuilder = ManagedChannelBuilder.forTarget(address.toString()).usePlaintext();
         }
 
-        channel = channelBuilder
+        return channelBuilder
             .keepAliveTimeout(10, TimeUnit.SECONDS)
             .userAgent(getUserAgent())
-            .executor(executor)
-            .build();
-
-        return channel;
+            .executor(executor);
     }
 
     /**
-     * Did we fail to connect?
+     * Asynchronously determine if the channel failed to connect.
+     * <p>
+     * Instead of polling the channel state, this registers a gRPC connectivity-state callback which fires on every
+     * state transition until the channel is {@link ConnectivityState#READY}, the channel shuts down, or
+     * {@link #GET_STATE_TIMEOUT_MILLIS} elapses.
      *
      * @return                          did we fail to connect
      */
-    boolean channelFailedToConnect() {
+    CompletableFuture<Boolean> channelFailedToConnectAsync() {
         if (hasConnected) {
-            return false;
-        }
-        hasConnected = (getChannel().getState(true) == ConnectivityState.READY);
-        try {
-            for (@Var int i = 0; i < GET_STATE_MAX_ATTEMPTS && !hasConnected; i++) {
-                TimeUnit.MILLISECONDS.sleep(GET_STATE_INTERVAL_MILLIS);
-                hasConnected = (getChannel().getState(true) == ConnectivityState.READY);
-            }
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            return CompletableFuture.completedFuture(false);
         }
-        return !hasConnected;
-    }
 
-    private CompletableFuture<Boolean> channelFailedToConnectAsync(int i, ConnectivityState state) {
-        hasConnected = (state == ConnectivityState.READY);
-        if (i >= GET_STATE_MAX_ATTEMPTS || hasConnected) {
-            return CompletableFuture.completedFuture(!hasConnected);
+        var channel = getChannel();
+        var connectionFailed = new CompletableFuture<Boolean>();
+
+        // Start connecting every channel of the pool, not only the one being watched
+        for (var pooled : getChannels()) {
+            pooled.channel.getState(true);
         }
-        return Delayer.delayFor(GET_STATE_INTERVAL_MILLIS, executor).thenCompose(ignored -> {
-            return channelFailedToConnectAsync(i + 1, getChannel().getState(true));
-        });
+
+        awaitChannelReady(channel, channel.getState(true), connectionFailed);
+
+        return connectionFailed
+            .completeOnTimeout(true, GET_STATE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+            .thenApply(failed -> {
+                if (!failed) {
+                    hasConnected = true;
+                }
+
+                return failed;
+            });
     }
 
     /**
-     * Asynchronously determine if the channel failed to connect.
+     * Complete {@code connectionFailed} once the channel is ready or can no longer become ready, otherwise wait for the
+     * next state transition.
      *
-     * @return                          did we fail to connect
+     * @param channel                   the channel to watch
+     * @param state                     the last observed state of the channel
+     * @param connectionFailed          the future to complete
      */
-    CompletableFuture<Boolean> channelFailedToConnectAsync() {
-        if (hasConnected) {
-            return CompletableFuture.completedFuture(false);
+    private static void awaitChannelReady(ManagedChannel channel, ConnectivityState state, CompletableFuture<Boolean> connectionFailed) {
+        if (connectionFailed.isDone()) {
+            return;
+        }
+
+        if (state == ConnectivityState.READY) {
+            connectionFailed.complete(false);
+        } else if (state == ConnectivityState.SHUTDOWN) {
+            connectionFailed.complete(true);
+        } else {
+            // `getState(true)` asks an idle channel to start connecting again
+            channel.notifyWhenStateChanged(state, () -> awaitChannelReady(channel, channel.getState(true), connectionFailed));
         }
-        return channelFailedToConnectAsync(0, getChannel().getState(true));
     }
 
     /**
@@ -378,13 +606,42 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
      * @throws InterruptedException     thrown when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
     synchronized void close(Duration timeout) throws InterruptedException {
-        if (channel != null) {
-            channel.shutdown();
-            channel.awaitTermination(timeout.getSeconds(), TimeUnit.SECONDS);
-            channel = null;
+        shutdownChannels();
+        awaitChannelsTermination(timeout.getSeconds());
+    }
+
+    /**
+     * Start an orderly shutdown of every channel of this node without waiting for it.
+     */
+    synchronized void shutdownChannels() {
+        var pool = channels;
+        if (pool != null) {
+            for (var pooled : pool) {
+                pooled.channel.shutdown();
+            }
         }
     }
 
+    /**
+     * Wait for the channels of this node to terminate, then drop them so the next call opens new ones.
+     *
+     * @param seconds                   the time to wait for all channels together
+     * @throws InterruptedException     thrown when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    synchronized void awaitChannelsTermination(long seconds) throws InterruptedException {
+        var pool = channels;
+        if (pool == null) {
+            return;
+        }
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        for (var pooled : pool) {
+            pooled.channel.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        channels = null;
+    }
+
     /**
      * Compares one node to another.  If node a < node b, use of node a will be prioritized over node b.
      *
@@ -408,7 +665,7 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
             return badGrpcComparison;
         }
 
-        int useCountComparison = Long.compare(this.useCount, node.useCount);
+        int useCountComparison = Long.compare(this.useCount.get(), node.useCount.get());
         if (useCountComparison != 0) {
             return useCountComparison;
         }
@@ -426,4 +683,57 @@ abstract class ManagedNode<N extends ManagedNode<N, KeyT>, KeyT> implements Comp
         var implementationVersion = thePackage != null ? thePackage.getImplementationVersion() : null;
         return "hedera-sdk-java/" + ((implementationVersion != null) ? ("v" + implementationVersion) : "DEV");
     }
+
+    /**
+     * A channel of the pool together with the number of calls started on it which have not closed yet.
+     */
+    static final class PooledChannel {
+        final AtomicInteger outstandingCalls = new AtomicInteger();
+
+        final ManagedChannel channel;
+
+        PooledChannel(ManagedChannelBuilder<?> builder) {
+            this.channel = builder.intercept(new OutstandingCallCounter(outstandingCalls)).build();
+        }
+    }
+
+    /**
+     * Counts the calls of a channel from start until close.
+     */
+    private static final class OutstandingCallCounter implements ClientInterceptor {
+        private final AtomicInteger outstandingCalls;
+
+        OutstandingCallCounter(AtomicInteger outstandingCalls) {
+            this.outstandingCalls = outstandingCalls;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions,
+            Channel next
+        ) {
+            return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    outstandingCalls.incrementAndGet();
+
+                    var listener = new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            outstandingCalls.decrementAndGet();
+                            super.onClose(status, trailers);
+                        }
+                    };
+
+                    try {
+                        super.start(listener, headers);
+                    } catch (RuntimeException e) {
+                        outstandingCalls.decrementAndGet();
+                        throw e;
+                    }
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,170 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out valid starts from a per-account nanosecond counter which never goes back, so two IDs of the same payer
+ * never collide however many are generated at once.
+ *
+ * @see TransactionIdGenerator#monotonic()
+ */
+final class MonotonicTransactionIdGenerator implements TransactionIdGenerator {
+    static final MonotonicTransactionIdGenerator INSTANCE = new MonotonicTransactionIdGenerator();
+
+    /**
+     * How far valid starts are set back from the clock, so a node whose clock is behind ours still accepts them
+     */
+    static final long BACKDATE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // Marks a counter which was swept out of the map; a generate which still holds it starts over
+    private static final long RETIRED = Long.MAX_VALUE;
+
+    // The last valid start handed out per payer, in nanoseconds since the epoch
+    private final ConcurrentMap<AccountId, AtomicLong> lastValidStarts = new ConcurrentHashMap<>();
+
+    // When stale counters are next swept out, so the map only holds the payers which generated IDs lately
+    private final AtomicLong nextSweepAt = new AtomicLong(Long.MIN_VALUE);
+
+    MonotonicTransactionIdGenerator() {
+    }
+
+    @Override
+    public TransactionId generate(AccountId accountId, int count) {
+        return generate(accountId, count, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()));
+    }
+
+    /**
+     * Generate the IDs of {@code count} transactions at a given time.
+     *
+     * @param accountId                 the account which pays for the transactions
+     * @param count                     the number of IDs, at least 1
+     * @param now                       the current time in nanoseconds since the epoch
+     * @return                          the first ID
+     */
+    TransactionId generate(AccountId accountId, int count, long now) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be at least 1");
+        }
+
+        sweep(now);
+
+        @Var long first;
+        do {
+            first = reserve(getCounter(accountId), accountId, count, now);
+        } while (first == RETIRED);
+
+        return new TransactionId(accountId, Instant.ofEpochSecond(first / NANOS_PER_SECOND, first % NANOS_PER_SECOND));
+    }
+
+    private AtomicLong getCounter(AccountId accountId) {
+        @Nullable
+        var lastValidStart = lastValidStarts.get(accountId);
+        if (lastValidStart != null) {
+            return lastValidStart;
+        }
+
+        var created = new AtomicLong();
+
+        @Nullable
+        var existing = lastValidStarts.putIfAbsent(accountId, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Move a payer's counter past the valid starts of {@code count} transactions.
+     *
+     * @param lastValidStart            the counter of the payer
+     * @param accountId                 the account which pays for the transactions
+     * @param count                     the number of IDs, at least 1
+     * @param now                       the current time in nanoseconds since the epoch
+     * @return                          the first valid start, or {@code RETIRED} when the counter was swept out
+     */
+    private static long reserve(AtomicLong lastValidStart, AccountId accountId, int count, long now) {
+        @Var long previous;
+        @Var long first;
+        do {
+            previous = lastValidStart.get();
+            if (previous == RETIRED) {
+                return RETIRED;
+            }
+
+            first = Math.max(previous + 1, now - BACKDATE_NANOS);
+
+            // Only more than a billion IDs a second, or the clock stepping back, get the counter this far ahead
+            if (first + count - 1 > now) {
+                throw new IllegalStateException(
+                    "transaction IDs of account " + accountId + " ran ahead of the clock, which may have moved back");
+            }
+        } while (!lastValidStart.compareAndSet(previous, first + count - 1));
+
+        return first;
+    }
+
+    /**
+     * Drop the counters of payers which have not generated IDs lately, at most once per backdate.
+     * <p>
+     * A counter more than a backdate behind the backdated clock only hands out valid starts a new counter would hand
+     * out too, even when the clock steps back as far as the generator allows, so it can go. It is retired before it is
+     * removed, so a generate which already holds it cannot hand out a valid start the new counter hands out again.
+     *
+     * @param now                       the current time in nanoseconds since the epoch
+     */
+    private void sweep(long now) {
+        var sweepAt = nextSweepAt.get();
+        if (now < sweepAt || !nextSweepAt.compareAndSet(sweepAt, now + BACKDATE_NANOS)) {
+            return;
+        }
+
+        var staleBefore = now - 2 * BACKDATE_NANOS;
+        for (var entry : lastValidStarts.entrySet()) {
+            var counter = entry.getValue();
+            var last = counter.get();
+
+            if (last < staleBefore && counter.compareAndSet(last, RETIRED)) {
+                lastValidStarts.remove(entry.getKey(), counter);
+            }
+        }
+    }
+
+    /**
+     * Extract the number of payers whose counter is kept.
+     *
+     * @return                          the number of counters
+     */
+    int getCounterCount() {
+        return lastValidStarts.size();
+    }
+
+    @Override
+    public String toString() {
+        return "monotonic";
+    }
+}
@@ -50,6 +50,8 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
 
     private boolean verifyCertificates = true;
 
+    private volatile ClientMetrics metrics = ClientMetrics.NOOP;
+
     private Network(ExecutorService executor, Map<String, AccountId> network) {
         super(executor);
 
@@ -306,6 +308,38 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
         return this;
     }
 
+    /**
+     * Extract the metrics requests and nodes report to.
+     *
+     * @return                          the metrics
+     */
+    ClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Assign the metrics requests and nodes report to.
+     *
+     * @param metrics                   the metrics
+     * @return {@code this}
+     */
+    synchronized Network setMetrics(ClientMetrics metrics) {
+        this.metrics = metrics;
+
+        for (var node : nodes) {
+            node.setMetrics(metrics);
+        }
+
+        onHealthyNodesChanged();
+
+        return this;
+    }
+
+    @Override
+    protected void onHealthyNodesChanged() {
+        metrics.onHealthyNodesChanged(healthyNodes.size(), nodes.size());
+    }
+
     @Override
     synchronized Network setLedgerId(@Nullable LedgerId ledgerId) {
         super.setLedgerId(ledgerId);
@@ -318,6 +352,53 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
         return this;
     }
 
+    /**
+     * Reconcile the network with an address book, such as one fetched with {@link AddressBookQuery}.
+     * <p>
+     * Every endpoint becomes a network entry on the node port matching the transport security of the network. Nodes
+     * which are still listed keep their channels and health; see {@link #setNetwork(Map)}. An address book without
+     * any usable endpoint is ignored rather than emptying the network.
+     *
+     * @param addressBook               the address book
+     * @return {@code this}
+     * @throws TimeoutException         when shutting down nodes
+     * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    synchronized Network setNetworkFromAddressBook(NodeAddressBook addressBook) throws TimeoutException, InterruptedException {
+        var network = new HashMap<String, AccountId>();
+        var addressBookMap = new HashMap<AccountId, NodeAddress>();
+
+        for (var nodeAddress : addressBook.nodeAddresses) {
+            if (nodeAddress.accountId == null) {
+                continue;
+            }
+
+            addressBookMap.put(nodeAddress.accountId, nodeAddress);
+
+            for (var endpoint : nodeAddress.addresses) {
+                if (endpoint.address == null) {
+                    continue;
+                }
+
+                var address = new ManagedNodeAddress(null, endpoint.address.toString(), endpoint.port);
+                network.put((isTransportSecurity() ? address.toSecure() : address.toInsecure()).toString(), nodeAddress.accountId);
+            }
+        }
+
+        if (network.isEmpty()) {
+            return this;
+        }
+
+        setNetwork(network);
+
+        this.addressBook = addressBookMap;
+        for (var node : nodes) {
+            node.setAddressBook(addressBookMap.get(node.getAccountId()));
+        }
+
+        return this;
+    }
+
     /**
      * Import an address book.
      *
@@ -360,7 +441,8 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
     @Override
     protected Node createNodeFromNetworkEntry(Map.Entry<String, AccountId> entry) {
         return new Node(entry.getValue(), entry.getKey(), executor)
-            .setVerifyCertificates(verifyCertificates);
+            .setVerifyCertificates(verifyCertificates)
+            .setMetrics(metrics);
     }
 
     /**
@@ -369,7 +451,7 @@ class Network extends ManagedNetwork<Network, AccountId, Node> {
      *
      * @return {@link java.util.List<com.hedera.hashgraph.sdk.AccountId>}
      */
-    synchronized List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
+    List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
         var nodes = getNumberOfMostHealthyNodes(getNumberOfNodesForRequest());
         var nodeAccountIds = new ArrayList<AccountId>(nodes.size());
 
@@ -0,0 +1,162 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Refreshes a client's network from the address book on a fixed period.
+ * <p>
+ * Each refresh fetches the address book, from the mirror network by default, and reconciles the network with it
+ * through {@link Network#setNetworkFromAddressBook(NodeAddressBook)}. A failed refresh leaves the network as it was
+ * and is tried again after the next period.
+ */
+class NetworkUpdater {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkUpdater.class);
+
+    private final Client client;
+
+    private volatile Function<Client, CompletableFuture<NodeAddressBook>> addressBookSource =
+        target -> new AddressBookQuery().setFileId(FileId.ADDRESS_BOOK).executeAsync(target);
+
+    @Nullable
+    private volatile Duration period = null;
+
+    private boolean refreshScheduled = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client whose network is refreshed
+     */
+    NetworkUpdater(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Extract the time between two refreshes.
+     *
+     * @return                          the period, or null when the network is not refreshed
+     */
+    @Nullable
+    Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * Assign the time between two refreshes, starting or stopping the updater.
+     *
+     * @param period                    the period, or null to stop refreshing
+     */
+    void setPeriod(@Nullable Duration period) {
+        this.period = period;
+
+        scheduleRefresh();
+    }
+
+    /**
+     * Assign where address books are fetched from, e.g. a local stand-in for the mirror network in tests.
+     *
+     * @param addressBookSource         fetches the address book for a client
+     */
+    void setAddressBookSource(Function<Client, CompletableFuture<NodeAddressBook>> addressBookSource) {
+        this.addressBookSource = Objects.requireNonNull(addressBookSource);
+    }
+
+    private synchronized void scheduleRefresh() {
+        @Nullable
+        var period = this.period;
+        if (refreshScheduled || period == null) {
+            return;
+        }
+
+        refreshScheduled = true;
+
+        // The refresh is handed to the client's executor here rather than by runAsync, whose future would swallow a
+        // rejection and leave the refresh scheduled for good
+        CompletableFuture.delayedExecutor(period.toMillis(), TimeUnit.MILLISECONDS, Runnable::run)
+            .execute(this::submitRefresh);
+    }
+
+    private void submitRefresh() {
+        try {
+            client.executor.execute(() -> refresh().whenComplete((ignored, error) -> {
+                synchronized (this) {
+                    refreshScheduled = false;
+                }
+
+                scheduleRefresh();
+            }));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                refreshScheduled = false;
+            }
+
+            logger.warn("network updates stopped, the client's executor rejected them: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Is a refresh waiting to run?
+     *
+     * @return                          whether a refresh is scheduled
+     */
+    synchronized boolean isRefreshScheduled() {
+        return refreshScheduled;
+    }
+
+    /**
+     * Fetch the address book and reconcile the network with it now.
+     *
+     * @return                          a future completed once the network is updated; failures are logged, not
+     *                                  reported
+     */
+    CompletableFuture<Void> refresh() {
+        @Var
+        CompletableFuture<NodeAddressBook> addressBook;
+        try {
+            addressBook = addressBookSource.apply(client);
+        } catch (RuntimeException e) {
+            addressBook = CompletableFuture.failedFuture(e);
+        }
+
+        return addressBook.thenAccept(book -> {
+            try {
+                client.network.setNetworkFromAddressBook(book);
+            } catch (InterruptedException | TimeoutException e) {
+                throw new RuntimeException(e);
+            }
+        }).exceptionally(error -> {
+            logger.warn("failed to update the network from the address book", error);
+            return null;
+        });
+    }
+}
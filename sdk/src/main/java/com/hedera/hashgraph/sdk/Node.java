@@ -20,6 +20,7 @@
 package com.hedera.hashgraph.sdk;
 
 import io.grpc.ChannelCredentials;
+import io.grpc.ConnectivityState;
 import io.grpc.TlsChannelCredentials;
 
 import javax.annotation.Nullable;
@@ -36,6 +37,10 @@ class Node extends ManagedNode<Node, AccountId> {
 
     private boolean verifyCertificates;
 
+    private final ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter();
+
+    private volatile ClientMetrics metrics = ClientMetrics.NOOP;
+
     /**
      * Constructor.
      *
@@ -71,6 +76,7 @@ class Node extends ManagedNode<Node, AccountId> {
         this.accountId = node.accountId;
         this.verifyCertificates = node.verifyCertificates;
         this.addressBook = node.addressBook;
+        this.metrics = node.metrics;
     }
 
     @Override
@@ -97,6 +103,15 @@ class Node extends ManagedNode<Node, AccountId> {
         return accountId;
     }
 
+    /**
+     * Extract the adaptive limit on calls in flight to this node.
+     *
+     * @return                          the concurrency limiter
+     */
+    ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     /**
      * Extract the address book.
      *
@@ -137,6 +152,22 @@ class Node extends ManagedNode<Node, AccountId> {
         return this;
     }
 
+    /**
+     * Assign the metrics the channels of this node report their state to.
+     *
+     * @param metrics                   the metrics
+     * @return {@code this}
+     */
+    Node setMetrics(ClientMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    @Override
+    void onChannelStateChanged(ConnectivityState state) {
+        metrics.onChannelStateChanged(accountId, state);
+    }
+
     @Override
     ChannelCredentials getChannelCredentials() {
         return TlsChannelCredentials.newBuilder()
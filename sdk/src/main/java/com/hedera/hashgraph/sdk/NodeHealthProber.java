@@ -0,0 +1,191 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes the nodes of a client's network in the background with free {@link AccountBalanceQuery} pings.
+ * <p>
+ * A node which backed off is not readmitted once its backoff ends, but only after it answers a probe, like a
+ * half-open circuit breaker. A failed probe backs the node off further. Healthy nodes which have not been used for a
+ * whole probe interval are probed as well, so a node which went down while idle is found by a probe and not by a
+ * request.
+ */
+class NodeHealthProber {
+    private static final Logger logger = LoggerFactory.getLogger(NodeHealthProber.class);
+
+    private final Client client;
+
+    // Nodes with a probe in flight
+    private final Set<Node> probing = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    @Nullable
+    private volatile Duration interval = null;
+
+    private boolean tickScheduled = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client used to run the probes
+     */
+    NodeHealthProber(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Extract the time between two rounds of probes.
+     *
+     * @return                          the interval, or null when probing is disabled
+     */
+    @Nullable
+    Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * Assign the time between two rounds of probes, starting or stopping the prober.
+     *
+     * @param interval                  the interval, or null to disable probing
+     */
+    void setInterval(@Nullable Duration interval) {
+        this.interval = interval;
+        client.network.setProbeBeforeReadmit(interval != null);
+
+        scheduleTick();
+    }
+
+    /**
+     * Extract the number of probes in flight.
+     *
+     * @return                          the number of nodes being probed
+     */
+    int getProbingCount() {
+        return probing.size();
+    }
+
+    private synchronized void scheduleTick() {
+        @Nullable
+        var interval = this.interval;
+        if (tickScheduled || interval == null) {
+            return;
+        }
+
+        tickScheduled = true;
+
+        // Hand the tick to the client's executor ourselves, as runAsync would only report a rejection to its future
+        CompletableFuture.delayedExecutor(interval.toMillis(), TimeUnit.MILLISECONDS, Runnable::run)
+            .execute(this::submitTick);
+    }
+
+    private void submitTick() {
+        try {
+            client.executor.execute(this::tick);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                tickScheduled = false;
+            }
+
+            logger.debug("health probes stopped, the client's executor rejected them: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Is a round of probes waiting to run?
+     *
+     * @return                          whether a tick is scheduled
+     */
+    synchronized boolean isTickScheduled() {
+        return tickScheduled;
+    }
+
+    void tick() {
+        synchronized (this) {
+            tickScheduled = false;
+        }
+
+        @Nullable
+        var interval = this.interval;
+        if (interval == null) {
+            return;
+        }
+
+        try {
+            for (var node : client.network.getNodesDueForProbe()) {
+                probe(node);
+            }
+
+            for (var node : client.network.getIdleNodes(System.currentTimeMillis() - interval.toMillis())) {
+                probe(node);
+            }
+        } finally {
+            scheduleTick();
+        }
+    }
+
+    private void probe(Node node) {
+        if (!probing.add(node)) {
+            return;
+        }
+
+        @Var
+        CompletableFuture<AccountBalance> query;
+        try {
+            query = new AccountBalanceQuery()
+                .setAccountId(node.getAccountId())
+                .setNodeAccountIds(Collections.singletonList(node.getAccountId()))
+                .setMaxAttempts(1)
+                .executeAsync(client);
+        } catch (RuntimeException e) {
+            query = CompletableFuture.failedFuture(e);
+        }
+
+        query.whenComplete((balance, error) -> {
+            probing.remove(node);
+
+            if (error == null) {
+                if (node.isAwaitingProbe()) {
+                    logger.debug("node {} answered its health probe and is readmitted", node.getAccountId());
+                    client.network.readmitNode(node);
+                }
+                return;
+            }
+
+            logger.debug("health probe of node {} failed with exception {}", node.getAccountId(), error.getMessage());
+
+            // A failed call already backed the node off; anything else, like a timeout, is counted here
+            if (node.isAwaitingProbe() ? node.isBackoffElapsed() : node.isHealthy()) {
+                client.network.increaseBackoff(node);
+            }
+        });
+    }
+}
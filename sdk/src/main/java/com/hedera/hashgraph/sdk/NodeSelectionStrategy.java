@@ -0,0 +1,130 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides which healthy node a request is sent to.
+ *
+ * Selection only ever considers nodes which are currently healthy; nodes in backoff are handled by the network
+ * before a strategy is consulted.
+ *
+ * @see Client#setNodeSelectionStrategy(NodeSelectionStrategy)
+ */
+public abstract class NodeSelectionStrategy {
+    NodeSelectionStrategy() {
+    }
+
+    /**
+     * Pick a node uniformly at random. This is the default.
+     *
+     * @return                          the random strategy
+     */
+    public static NodeSelectionStrategy random() {
+        return new Random();
+    }
+
+    /**
+     * Cycle through the healthy nodes in order.
+     *
+     * @return                          a new round-robin strategy
+     */
+    public static NodeSelectionStrategy roundRobin() {
+        return new RoundRobin();
+    }
+
+    /**
+     * Pick two nodes at random and use the one with the better latency score.
+     *
+     * The score of a node is its exponentially weighted moving average latency divided by its
+     * exponentially weighted moving average success rate, so traffic drifts away from nodes which are
+     * slow or failing. Nodes without any samples score zero and are therefore tried early.
+     *
+     * @return                          the latency-aware strategy
+     */
+    public static NodeSelectionStrategy latencyAware() {
+        return new LatencyAware();
+    }
+
+    /**
+     * Select one node out of a non-empty list of healthy nodes.
+     *
+     * @param nodes                     the healthy nodes
+     * @param <N>                       the node type
+     * @return                          the selected node
+     */
+    abstract <N extends ManagedNode<N, ?>> N select(List<N> nodes);
+
+    private static final class Random extends NodeSelectionStrategy {
+        @Override
+        <N extends ManagedNode<N, ?>> N select(List<N> nodes) {
+            return nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
+        }
+
+        @Override
+        public String toString() {
+            return "random";
+        }
+    }
+
+    private static final class RoundRobin extends NodeSelectionStrategy {
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        <N extends ManagedNode<N, ?>> N select(List<N> nodes) {
+            // Masking the sign bit keeps the index valid after the counter overflows
+            return nodes.get((next.getAndIncrement() & Integer.MAX_VALUE) % nodes.size());
+        }
+
+        @Override
+        public String toString() {
+            return "roundRobin";
+        }
+    }
+
+    private static final class LatencyAware extends NodeSelectionStrategy {
+        @Override
+        <N extends ManagedNode<N, ?>> N select(List<N> nodes) {
+            var size = nodes.size();
+            if (size == 1) {
+                return nodes.get(0);
+            }
+
+            var random = ThreadLocalRandom.current();
+            var first = random.nextInt(size);
+
+            // Pick a second, distinct index
+            var second = (first + 1 + random.nextInt(size - 1)) % size;
+
+            var a = nodes.get(first);
+            var b = nodes.get(second);
+
+            return a.getLatencyScore() <= b.getLatencyScore() ? a : b;
+        }
+
+        @Override
+        public String toString() {
+            return "latencyAware";
+        }
+    }
+}
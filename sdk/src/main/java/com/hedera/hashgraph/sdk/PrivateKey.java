@@ -20,7 +20,6 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
-import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.crypto.digests.SHA512Digest;
@@ -371,7 +370,7 @@ public abstract class PrivateKey extends Key {
             transaction.freeze();
         }
 
-        var builder = (SignedTransaction.Builder) transaction.innerSignedTransactions.get(0);
+        var builder = transaction.getSignedTransactionAt(0);
         var signature = sign(builder.getBodyBytes().toByteArray());
 
         transaction.addSignature(getPublicKey(), signature);
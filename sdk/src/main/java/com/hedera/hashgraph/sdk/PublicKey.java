@@ -188,7 +188,8 @@ public abstract class PublicKey extends Key {
             }
         }
 
-        for (var signedTransaction : transaction.innerSignedTransactions) {
+        for (var i = 0; i < transaction.innerSignedTransactions.size(); i++) {
+            var signedTransaction = transaction.getSignedTransactionAt(i);
             @Var var found = false;
 
             for (var sigPair : signedTransaction.getSigMap().getSigPairList()) {
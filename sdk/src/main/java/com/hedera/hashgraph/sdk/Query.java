@@ -169,6 +169,17 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         return true;
     }
 
+    @Override
+    boolean isHedgeable() {
+        // A second paid query would be charged twice
+        return !isPaymentRequired();
+    }
+
+    @Override
+    RequestType getRequestType(com.hedera.hashgraph.sdk.proto.Query request) {
+        return RequestType.valueOf(request.getQueryCase());
+    }
+
     /**
      * Called in {@link #makeRequest} just before the query is built. The intent is for the derived
      * class to assign their data variant to the query.
@@ -390,6 +401,8 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         private final Hbar maxCost;
         private final boolean notRequired;
 
+        private final TransactionIdGenerator transactionIdGenerator;
+
         private Client.Operator operator;
         private Hbar cost;
 
@@ -399,6 +412,7 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
             cost = Query.this.queryPayment;
             notRequired = (Query.this.paymentTransactions != null) || !Query.this.isPaymentRequired();
             maxCost = MoreObjects.firstNonNull(Query.this.maxQueryPayment, client.defaultMaxQueryPayment);
+            transactionIdGenerator = client.getTransactionIdGenerator();
 
             if (!notRequired) {
                 operator = Query.this.getOperatorFromClient(client);
@@ -434,6 +448,10 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         void finish() {
             Query.this.chosenQueryPayment = cost;
             Query.this.paymentOperator = operator;
+
+            if (Query.this.paymentTransactionId == null) {
+                Query.this.paymentTransactionId = transactionIdGenerator.generate(operator.accountId, 1);
+            }
             Query.this.paymentTransactions = new ArrayList<>(Query.this.nodeAccountIds.size());
 
             for (int i = 0; i < Query.this.nodeAccountIds.size(); i++) {
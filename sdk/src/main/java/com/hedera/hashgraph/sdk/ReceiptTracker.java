@@ -0,0 +1,344 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Polls the receipts of pending transactions on one shared schedule.
+ * <p>
+ * Every waiter on the same transaction ID shares a single entry, so one receipt response completes all of them. Each
+ * poll is a single free {@link TransactionReceiptQuery} attempt; an entry that is not ready yet simply waits for a
+ * later tick instead of running its own backoff. The first poll of an entry is delayed by the consensus latency
+ * observed so far, and later polls are spread over the healthy nodes of the network. A tick sends at most
+ * {@value #MAX_POLLS_PER_NODE_PER_TICK} polls to any one node; entries beyond that stay due for the next tick, so a
+ * burst of transactions submitted to one node does not land on it all at once.
+ */
+class ReceiptTracker {
+    static final long MIN_POLL_INTERVAL_MILLIS = 100;
+    static final long MAX_POLL_INTERVAL_MILLIS = 2000;
+
+    // The weight of the newest consensus latency sample
+    private static final double LATENCY_ALPHA = 0.2;
+
+    // How many polls are made, at most, within one average consensus latency
+    private static final int POLLS_PER_LATENCY = 8;
+
+    static final int MAX_POLLS_PER_NODE_PER_TICK = 20;
+
+    private final Client client;
+
+    private final ConcurrentMap<TransactionId, PendingReceipt> pending = new ConcurrentHashMap<>();
+
+    // Average milliseconds from tracking a transaction to finding its receipt; zero until the first receipt
+    private volatile double consensusLatencyMillis = 0;
+
+    private boolean tickScheduled = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client used to run the receipt queries
+     */
+    ReceiptTracker(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Wait for the receipt of a transaction.
+     *
+     * @param transactionId             the transaction ID
+     * @param nodeAccountId             the node the transaction was submitted to, polled first; null for any node
+     * @return                          a future completed by the first receipt found for the transaction ID
+     */
+    CompletableFuture<TransactionReceipt> track(TransactionId transactionId, @Nullable AccountId nodeAccountId) {
+        var now = currentTimeMillis();
+
+        // Can't use `Map.computeIfAbsent()` since that method is not available on Android
+        @Nullable
+        @Var
+        var entry = pending.get(transactionId);
+        if (entry == null) {
+            var created = new PendingReceipt(
+                transactionId,
+                nodeAccountId,
+                now,
+                now + firstPollDelayMillis(),
+                now + client.getRequestTimeout().toMillis()
+            );
+
+            var existing = pending.putIfAbsent(transactionId, created);
+            entry = existing != null ? existing : created;
+        }
+
+        scheduleTick();
+
+        // Cancelling one waiter must not cancel the others
+        return entry.future.copy();
+    }
+
+    /**
+     * Extract the average consensus latency observed so far.
+     *
+     * @return                          the latency in milliseconds, zero before the first receipt
+     */
+    double getConsensusLatencyMillis() {
+        return consensusLatencyMillis;
+    }
+
+    /**
+     * Extract the number of transactions still waiting for a receipt.
+     *
+     * @return                          the number of pending transactions
+     */
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    long pollIntervalMillis() {
+        var interval = (long) (consensusLatencyMillis / POLLS_PER_LATENCY);
+        return Math.max(MIN_POLL_INTERVAL_MILLIS, Math.min(MAX_POLL_INTERVAL_MILLIS, interval));
+    }
+
+    private long firstPollDelayMillis() {
+        return Math.max(0, (long) consensusLatencyMillis - pollIntervalMillis());
+    }
+
+    /**
+     * Fail every pending receipt, as the client is closed, and stop polling until the next transaction is tracked.
+     */
+    void close() {
+        failAll(new IllegalStateException("the client was closed while waiting for the receipt"));
+    }
+
+    private void failAll(Throwable reason) {
+        for (var entry : pending.values()) {
+            finish(entry, null, reason);
+        }
+    }
+
+    private synchronized void scheduleTick() {
+        if (tickScheduled || pending.isEmpty()) {
+            return;
+        }
+
+        tickScheduled = true;
+
+        // The delay only hands the tick to the client's executor, so an executor which was shut down in the meantime
+        // is seen here instead of silently dropping the tick
+        try {
+            CompletableFuture.delayedExecutor(pollIntervalMillis(), TimeUnit.MILLISECONDS, Runnable::run)
+                .execute(this::submitTick);
+        } catch (RejectedExecutionException e) {
+            onTickRejected(e);
+        }
+    }
+
+    private void submitTick() {
+        try {
+            client.executor.execute(this::tick);
+        } catch (RejectedExecutionException e) {
+            onTickRejected(e);
+        }
+    }
+
+    private void onTickRejected(RejectedExecutionException e) {
+        synchronized (this) {
+            tickScheduled = false;
+        }
+
+        // Nothing would poll or time out the pending receipts anymore
+        failAll(e);
+    }
+
+    private void tick() {
+        try {
+            var now = currentTimeMillis();
+            var pollsPerNode = new HashMap<AccountId, Integer>();
+
+            for (var entry : pending.values()) {
+                if (now >= entry.deadline) {
+                    finish(entry, null, new TimeoutException(
+                        "timed out waiting for the receipt of transaction " + entry.transactionId));
+                } else if (now >= entry.nextPollAt) {
+                    poll(entry, pollsPerNode);
+                }
+            }
+        } finally {
+            // Only cleared now, so a transaction tracked during this tick cannot start a second, concurrent tick
+            synchronized (this) {
+                tickScheduled = false;
+                scheduleTick();
+            }
+        }
+    }
+
+    private void poll(PendingReceipt entry, Map<AccountId, Integer> pollsPerNode) {
+        // A single poll per entry at a time, so a receipt is never paid for twice
+        if (!entry.inFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        @Var
+        @Nullable
+        AccountId nodeAccountId;
+
+        if (entry.polls == 0 && entry.nodeAccountId != null) {
+            nodeAccountId = entry.nodeAccountId;
+        } else {
+            try {
+                nodeAccountId = client.network.getNode(null).getAccountId();
+            } catch (IllegalStateException e) {
+                // No healthy node right now; fall back to the submitting node or wait for the next tick
+                nodeAccountId = entry.nodeAccountId;
+            }
+        }
+
+        if (nodeAccountId == null) {
+            entry.inFlight.set(false);
+            return;
+        }
+
+        // The node had its share of this tick; the entry stays due and is polled on the next one
+        @Nullable
+        var nodePolls = pollsPerNode.get(nodeAccountId);
+        if (nodePolls != null && nodePolls >= MAX_POLLS_PER_NODE_PER_TICK) {
+            entry.inFlight.set(false);
+            return;
+        }
+
+        pollsPerNode.put(nodeAccountId, nodePolls == null ? 1 : nodePolls + 1);
+        entry.polls++;
+
+        @Var
+        CompletableFuture<TransactionReceipt> query;
+        try {
+            query = new TransactionReceiptQuery()
+                .setTransactionId(entry.transactionId)
+                .setNodeAccountIds(Collections.singletonList(nodeAccountId))
+                .setMaxAttempts(1)
+                .executeAsync(client);
+        } catch (RuntimeException e) {
+            query = CompletableFuture.failedFuture(e);
+        }
+
+        query.whenComplete((receipt, error) -> onPollComplete(entry, receipt, error));
+    }
+
+    private void onPollComplete(PendingReceipt entry, @Nullable TransactionReceipt receipt, @Nullable Throwable error) {
+        var now = currentTimeMillis();
+
+        if (error == null) {
+            recordLatency(entry, now);
+            finish(entry, receipt, null);
+            return;
+        }
+
+        @Var var cause = error;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        // The single attempt found no receipt yet, hit a busy node or a network failure; poll again later
+        if (cause instanceof MaxAttemptsExceededException || cause instanceof TimeoutException) {
+            entry.nextPollAt = now + pollIntervalMillis();
+            entry.inFlight.set(false);
+            return;
+        }
+
+        finish(entry, null, cause);
+    }
+
+    private void recordLatency(PendingReceipt entry, long now) {
+        @Var var sample = (double) (now - entry.trackedAt);
+
+        // A hit on the first poll only bounds the latency from above, so probe a little earlier next time
+        if (entry.polls == 1) {
+            sample = Math.max(0, sample - pollIntervalMillis());
+        }
+
+        var latency = consensusLatencyMillis;
+        consensusLatencyMillis = latency == 0 ? sample : latency + LATENCY_ALPHA * (sample - latency);
+    }
+
+    private void finish(PendingReceipt entry, @Nullable TransactionReceipt receipt, @Nullable Throwable error) {
+        // Remove first so a new waiter arriving now starts a fresh entry instead of joining a finished one
+        pending.remove(entry.transactionId, entry);
+
+        if (error != null) {
+            entry.future.completeExceptionally(error);
+        } else {
+            entry.future.complete(receipt);
+        }
+    }
+
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * A transaction ID waiting for its receipt, shared by every waiter on it.
+     */
+    private static final class PendingReceipt {
+        final TransactionId transactionId;
+
+        @Nullable
+        final AccountId nodeAccountId;
+
+        final long trackedAt;
+
+        final long deadline;
+
+        final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+
+        volatile long nextPollAt;
+
+        final AtomicBoolean inFlight = new AtomicBoolean();
+
+        volatile int polls = 0;
+
+        PendingReceipt(
+            TransactionId transactionId,
+            @Nullable AccountId nodeAccountId,
+            long trackedAt,
+            long nextPollAt,
+            long deadline
+        ) {
+            this.transactionId = transactionId;
+            this.nodeAccountId = nodeAccountId;
+            this.trackedAt = trackedAt;
+            this.nextPollAt = nextPollAt;
+            this.deadline = deadline;
+        }
+    }
+}
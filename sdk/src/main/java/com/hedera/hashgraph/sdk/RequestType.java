@@ -20,6 +20,7 @@
 package com.hedera.hashgraph.sdk;
 
 import com.hedera.hashgraph.sdk.proto.HederaFunctionality;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
 
 /**
  * Enum for the request type.
@@ -534,6 +535,166 @@ public enum RequestType {
         }
     }
 
+    /**
+     * Find the request type of a transaction body.
+     *
+     * @param dataCase                  the kind of transaction
+     * @return                          the request type
+     */
+    static RequestType valueOf(TransactionBody.DataCase dataCase) {
+        switch (dataCase) {
+            case CONTRACTCALL:
+                return CONTRACT_CALL;
+            case CONTRACTCREATEINSTANCE:
+                return CONTRACT_CREATE;
+            case CONTRACTUPDATEINSTANCE:
+                return CONTRACT_UPDATE;
+            case CONTRACTDELETEINSTANCE:
+                return CONTRACT_DELETE;
+            case ETHEREUMTRANSACTION:
+                return ETHEREUM_TRANSACTION;
+            case CRYPTOADDLIVEHASH:
+                return CRYPTO_ADD_LIVE_HASH;
+            case CRYPTOAPPROVEALLOWANCE:
+                return CRYPTO_APPROVE_ALLOWANCE;
+            case CRYPTODELETEALLOWANCE:
+                return CRYPTO_DELETE_ALLOWANCE;
+            case CRYPTOCREATEACCOUNT:
+                return CRYPTO_CREATE;
+            case CRYPTODELETE:
+                return CRYPTO_DELETE;
+            case CRYPTODELETELIVEHASH:
+                return CRYPTO_DELETE_LIVE_HASH;
+            case CRYPTOTRANSFER:
+                return CRYPTO_TRANSFER;
+            case CRYPTOUPDATEACCOUNT:
+                return CRYPTO_UPDATE;
+            case FILEAPPEND:
+                return FILE_APPEND;
+            case FILECREATE:
+                return FILE_CREATE;
+            case FILEDELETE:
+                return FILE_DELETE;
+            case FILEUPDATE:
+                return FILE_UPDATE;
+            case SYSTEMDELETE:
+                return SYSTEM_DELETE;
+            case SYSTEMUNDELETE:
+                return SYSTEM_UNDELETE;
+            case FREEZE:
+                return FREEZE;
+            case CONSENSUSCREATETOPIC:
+                return CONSENSUS_CREATE_TOPIC;
+            case CONSENSUSUPDATETOPIC:
+                return CONSENSUS_UPDATE_TOPIC;
+            case CONSENSUSDELETETOPIC:
+                return CONSENSUS_DELETE_TOPIC;
+            case CONSENSUSSUBMITMESSAGE:
+                return CONSENSUS_SUBMIT_MESSAGE;
+            case UNCHECKEDSUBMIT:
+                return UNCHECKED_SUBMIT;
+            case TOKENCREATION:
+                return TOKEN_CREATE;
+            case TOKENFREEZE:
+                return TOKEN_FREEZE_ACCOUNT;
+            case TOKENUNFREEZE:
+                return TOKEN_UNFREEZE_ACCOUNT;
+            case TOKENGRANTKYC:
+                return TOKEN_GRANT_KYC_TO_ACCOUNT;
+            case TOKENREVOKEKYC:
+                return TOKEN_REVOKE_KYC_FROM_ACCOUNT;
+            case TOKENDELETION:
+                return TOKEN_DELETE;
+            case TOKENUPDATE:
+                return TOKEN_UPDATE;
+            case TOKENMINT:
+                return TOKEN_MINT;
+            case TOKENBURN:
+                return TOKEN_BURN;
+            case TOKENWIPE:
+                return TOKEN_ACCOUNT_WIPE;
+            case TOKENASSOCIATE:
+                return TOKEN_ASSOCIATE_TO_ACCOUNT;
+            case TOKENDISSOCIATE:
+                return TOKEN_DISSOCIATE_FROM_ACCOUNT;
+            case TOKEN_FEE_SCHEDULE_UPDATE:
+                return TOKEN_FEE_SCHEDULE_UPDATE;
+            case TOKEN_PAUSE:
+                return TOKEN_PAUSE;
+            case TOKEN_UNPAUSE:
+                return TOKEN_UNPAUSE;
+            case SCHEDULECREATE:
+                return SCHEDULE_CREATE;
+            case SCHEDULEDELETE:
+                return SCHEDULE_DELETE;
+            case SCHEDULESIGN:
+                return SCHEDULE_SIGN;
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * Find the request type of a query.
+     *
+     * @param queryCase                 the kind of query
+     * @return                          the request type
+     */
+    static RequestType valueOf(com.hedera.hashgraph.sdk.proto.Query.QueryCase queryCase) {
+        switch (queryCase) {
+            case GETBYKEY:
+                return GET_BY_KEY;
+            case GETBYSOLIDITYID:
+                return GET_BY_SOLIDITY_ID;
+            case CONTRACTCALLLOCAL:
+                return CONTRACT_CALL_LOCAL;
+            case CONTRACTGETINFO:
+                return CONTRACT_GET_INFO;
+            case CONTRACTGETBYTECODE:
+                return CONTRACT_GET_BYTECODE;
+            case CONTRACTGETRECORDS:
+                return CONTRACT_GET_RECORDS;
+            case CRYPTOGETACCOUNTBALANCE:
+                return CRYPTO_GET_ACCOUNT_BALANCE;
+            case CRYPTOGETACCOUNTRECORDS:
+                return CRYPTO_GET_ACCOUNT_RECORDS;
+            case CRYPTOGETINFO:
+                return CRYPTO_GET_INFO;
+            case CRYPTOGETLIVEHASH:
+                return CRYPTO_GET_LIVE_HASH;
+            case CRYPTOGETPROXYSTAKERS:
+                return CRYPTO_GET_STAKERS;
+            case FILEGETCONTENTS:
+                return FILE_GET_CONTENTS;
+            case FILEGETINFO:
+                return FILE_GET_INFO;
+            case TRANSACTIONGETRECEIPT:
+                return TRANSACTION_GET_RECEIPT;
+            case TRANSACTIONGETRECORD:
+                return TRANSACTION_GET_RECORD;
+            case CONSENSUSGETTOPICINFO:
+                return CONSENSUS_GET_TOPIC_INFO;
+            case NETWORKGETVERSIONINFO:
+                return GET_VERSION_INFO;
+            case TOKENGETINFO:
+                return TOKEN_GET_INFO;
+            case SCHEDULEGETINFO:
+                return SCHEDULE_GET_INFO;
+            case TOKENGETACCOUNTNFTINFOS:
+                return TOKEN_GET_ACCOUNT_NFT_INFOS;
+            case TOKENGETNFTINFO:
+                return TOKEN_GET_NFT_INFO;
+            case TOKENGETNFTINFOS:
+                return TOKEN_GET_NFT_INFOS;
+            case NETWORKGETEXECUTIONTIME:
+                return NETWORK_GET_EXECUTION_TIME;
+            case ACCOUNTDETAILS:
+                return GET_ACCOUNT_DETAILS;
+            default:
+                return NONE;
+        }
+    }
+
     @Override
     public String toString() {
         switch (this) {
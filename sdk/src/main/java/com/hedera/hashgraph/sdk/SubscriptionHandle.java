@@ -19,6 +19,8 @@
  */
 package com.hedera.hashgraph.sdk;
 
+import org.threeten.bp.Duration;
+
 import javax.annotation.Nullable;
 
 /**
@@ -32,10 +34,17 @@ public final class SubscriptionHandle {
     @Nullable
     private Runnable onUnsubscribe;
 
+    private volatile boolean unsubscribed = false;
+
+    private final TopicChunkBuffer chunkBuffer;
+
     /**
      * Constructor.
+     *
+     * @param chunkBuffer               the buffer reassembling chunked messages for this subscription
      */
-    SubscriptionHandle() {
+    SubscriptionHandle(TopicChunkBuffer chunkBuffer) {
+        this.chunkBuffer = chunkBuffer;
     }
 
     /**
@@ -51,8 +60,39 @@ public final class SubscriptionHandle {
      * Call the callback.
      */
     public void unsubscribe() {
+        unsubscribed = true;
+
         if (this.onUnsubscribe != null) {
             this.onUnsubscribe.run();
         }
     }
+
+    /**
+     * Has {@link #unsubscribe()} been called?
+     *
+     * @return                          whether the subscription was cancelled
+     */
+    boolean isUnsubscribed() {
+        return unsubscribed;
+    }
+
+    /**
+     * Extract the serialized size of the chunks waiting for the rest of their message.
+     *
+     * @return                          the buffered bytes
+     */
+    public long getBufferedChunkBytes() {
+        return chunkBuffer.getBufferedBytes();
+    }
+
+    /**
+     * Extract the number of chunked messages dropped before they were complete, because their chunks were buffered
+     * for longer than {@link TopicMessageQuery#setChunkBufferTimeout(Duration)} or went over
+     * {@link TopicMessageQuery#setMaxChunkBufferBytes(long)}.
+     *
+     * @return                          the number of evicted messages
+     */
+    public long getEvictedChunkedMessages() {
+        return chunkBuffer.getEvictedMessages();
+    }
 }
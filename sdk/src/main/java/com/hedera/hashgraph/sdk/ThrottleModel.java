@@ -0,0 +1,276 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.ThrottleBucket;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
+import com.hedera.hashgraph.sdk.proto.ThrottleGroup;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Client-side model of the network's throttles, used to pace outgoing transactions so they stay under the network's
+ * limits instead of being rejected with {@code BUSY}.
+ *
+ * Every bucket of the throttle definitions becomes a token bucket which refills at the rate of each of its throttle
+ * groups and holds up to the bucket's burst period. A transaction waits until every bucket its request type belongs
+ * to has room. Request types which are not in any bucket are not paced.
+ *
+ * The limits are network-wide, so the model only accounts for the load of the clients sharing it.
+ *
+ * See <a href="https://docs.hedera.com/guides/docs/hedera-api/basic-types/throttledefinitions">Hedera Documentation</a>
+ *
+ * @see Client#setThrottleModel(ThrottleModel)
+ */
+public final class ThrottleModel {
+    private final ThrottleDefinitions definitions;
+
+    private final Map<RequestType, List<Bucket>> bucketsByRequestType = new EnumMap<>(RequestType.class);
+
+    private volatile double targetUtilization = 1.0;
+
+    private ThrottleModel(ThrottleDefinitions definitions) {
+        this.definitions = definitions;
+
+        var now = System.nanoTime();
+        for (var throttleBucket : definitions.getThrottleBucketsList()) {
+            var bucket = new Bucket(throttleBucket, now);
+            for (var requestType : bucket.intervalNanos.keySet()) {
+                @Nullable
+                @Var
+                var buckets = bucketsByRequestType.get(requestType);
+                if (buckets == null) {
+                    buckets = new ArrayList<>();
+                    bucketsByRequestType.put(requestType, buckets);
+                }
+
+                buckets.add(bucket);
+            }
+        }
+    }
+
+    /**
+     * Create a throttle model from a protobuf.
+     *
+     * @param throttleDefinitions       the protobuf
+     * @return                          the throttle model
+     */
+    static ThrottleModel fromProtobuf(ThrottleDefinitions throttleDefinitions) {
+        return new ThrottleModel(throttleDefinitions);
+    }
+
+    /**
+     * Create a throttle model from the contents of a throttle definitions file.
+     *
+     * @param bytes                     the byte array
+     * @return                          the throttle model
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    public static ThrottleModel fromBytes(byte[] bytes) throws InvalidProtocolBufferException {
+        return fromProtobuf(ThrottleDefinitions.parseFrom(bytes));
+    }
+
+    /**
+     * Create a throttle model from the network's throttle definitions file, {@link FileId#THROTTLE_DEFINITIONS}.
+     *
+     * @param client                    the client to read the file with, which pays for the query
+     * @return                          the throttle model
+     * @throws TimeoutException                     when the query times out
+     * @throws PrecheckStatusException              when the query fails the precheck
+     * @throws InvalidProtocolBufferException       when the file is not a throttle definitions file
+     */
+    public static ThrottleModel fromNetwork(Client client)
+        throws TimeoutException, PrecheckStatusException, InvalidProtocolBufferException {
+        var contents = new FileContentsQuery()
+            .setFileId(FileId.THROTTLE_DEFINITIONS)
+            .execute(client);
+
+        return fromBytes(contents.toByteArray());
+    }
+
+    /**
+     * Extract the fraction of the network's limits transactions are paced to.
+     *
+     * @return                          the target utilization
+     */
+    public double getTargetUtilization() {
+        return targetUtilization;
+    }
+
+    /**
+     * Assign the fraction of the network's limits transactions are paced to, e.g. {@code 0.8} to leave a fifth of the
+     * capacity to other clients. Defaults to {@code 1.0}.
+     *
+     * @param targetUtilization         the target utilization, above 0 and at most 1
+     * @return {@code this}
+     */
+    public ThrottleModel setTargetUtilization(double targetUtilization) {
+        if (targetUtilization <= 0 || targetUtilization > 1) {
+            throw new IllegalArgumentException("targetUtilization must be above 0 and at most 1");
+        }
+        this.targetUtilization = targetUtilization;
+        return this;
+    }
+
+    /**
+     * Predict how many requests of a type the network accepts per second, at the target utilization.
+     *
+     * @param requestType               the request type
+     * @return                          the requests per second, or {@link Double#POSITIVE_INFINITY} when the type is
+     *                                  not throttled
+     */
+    public double getOpsPerSecond(RequestType requestType) {
+        @Var var rate = Double.POSITIVE_INFINITY;
+
+        @Nullable
+        var buckets = bucketsByRequestType.get(requestType);
+        if (buckets != null) {
+            for (var bucket : buckets) {
+                var intervalNanos = bucket.intervalNanos.get(requestType);
+                rate = Math.min(rate, TimeUnit.SECONDS.toNanos(1) / intervalNanos);
+            }
+        }
+
+        return rate * targetUtilization;
+    }
+
+    /**
+     * Take room for one request in every bucket its type belongs to.
+     *
+     * @param requestType               the request type
+     * @return                          how long to wait before sending the request, in nanoseconds
+     */
+    long reserve(RequestType requestType) {
+        return reserve(requestType, System.nanoTime());
+    }
+
+    /**
+     * Take room for one request in every bucket its type belongs to.
+     *
+     * @param requestType               the request type
+     * @param now                       the current {@link System#nanoTime()}
+     * @return                          how long to wait before sending the request, in nanoseconds
+     */
+    synchronized long reserve(RequestType requestType, long now) {
+        @Nullable
+        var buckets = bucketsByRequestType.get(requestType);
+        if (buckets == null) {
+            return 0;
+        }
+
+        var wait = 0L;
+        for (var bucket : buckets) {
+            wait = Math.max(wait, bucket.reserve(requestType, now, targetUtilization));
+        }
+        return wait;
+    }
+
+    /**
+     * Create the protobuf.
+     *
+     * @return                          protobuf representation
+     */
+    ThrottleDefinitions toProtobuf() {
+        return definitions;
+    }
+
+    /**
+     * Create the byte array.
+     *
+     * @return                          byte array representation
+     */
+    public byte[] toBytes() {
+        return toProtobuf().toByteArray();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("buckets", definitions.getThrottleBucketsCount())
+            .add("targetUtilization", targetUtilization)
+            .toString();
+    }
+
+    /**
+     * A token bucket kept as the time at which it is empty again. Each request pushes that time back by the interval
+     * of its throttle group, and a request has room while the bucket is no further than the burst period behind.
+     */
+    private static final class Bucket {
+        private final String name;
+
+        private final long burstNanos;
+
+        // The time between two requests of a type at the group's full rate
+        private final Map<RequestType, Double> intervalNanos = new EnumMap<>(RequestType.class);
+
+        private long emptyAt;
+
+        Bucket(ThrottleBucket bucket, long now) {
+            name = bucket.getName();
+            burstNanos = TimeUnit.MILLISECONDS.toNanos(bucket.getBurstPeriodMs());
+            emptyAt = now;
+
+            for (ThrottleGroup group : bucket.getThrottleGroupsList()) {
+                if (group.getMilliOpsPerSec() <= 0) {
+                    continue;
+                }
+
+                var interval = TimeUnit.SECONDS.toNanos(1000) / (double) group.getMilliOpsPerSec();
+                for (var operation : group.getOperationsList()) {
+                    RequestType requestType;
+                    try {
+                        requestType = RequestType.valueOf(operation);
+                    } catch (IllegalStateException e) {
+                        // An operation this SDK does not know of
+                        continue;
+                    }
+
+                    // The slowest group of the bucket limits an operation listed in several of them
+                    @Nullable
+                    var previous = intervalNanos.get(requestType);
+                    intervalNanos.put(requestType, previous != null ? Math.max(previous, interval) : interval);
+                }
+            }
+        }
+
+        long reserve(RequestType requestType, long now, double targetUtilization) {
+            var cost = (long) (intervalNanos.get(requestType) / targetUtilization);
+
+            emptyAt = Math.max(emptyAt, now) + cost;
+
+            // A bucket shorter than one request still lets one through at a time
+            return Math.max(0, emptyAt - now - Math.max(burstNanos, cost));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
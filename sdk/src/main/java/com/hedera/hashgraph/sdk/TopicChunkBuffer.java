@@ -0,0 +1,155 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reassembles chunked topic messages of a single subscription.
+ * <p>
+ * A message leaves the buffer as soon as its last chunk arrives. Chunks of messages that never complete are evicted
+ * once they are older than the timeout, or oldest first whenever the buffered bytes go over the cap.
+ */
+final class TopicChunkBuffer {
+    private final long timeoutNanos;
+
+    private final long maxBytes;
+
+    // In order of the first chunk's arrival, so the oldest message is always first
+    private final Map<TransactionID, PendingMessage> pending = new LinkedHashMap<>();
+
+    private long bufferedBytes = 0;
+
+    private long evictedMessages = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param timeout                   how long the chunks of an incomplete message are kept
+     * @param maxBytes                  the maximum serialized size of all buffered chunks
+     */
+    TopicChunkBuffer(Duration timeout, long maxBytes) {
+        this.timeoutNanos = timeout.toNanos();
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Add a chunk to the buffer.
+     *
+     * @param response                  the chunk
+     * @return                          every chunk of the message if this one completed it, otherwise null
+     */
+    @Nullable
+    synchronized List<ConsensusTopicResponse> add(ConsensusTopicResponse response) {
+        var now = System.nanoTime();
+        evictExpired(now);
+
+        var initialTransactionID = response.getChunkInfo().getInitialTransactionID();
+
+        @Var
+        @Nullable
+        var message = pending.get(initialTransactionID);
+        if (message == null) {
+            message = new PendingMessage(now);
+            pending.put(initialTransactionID, message);
+        }
+
+        var size = response.getSerializedSize();
+        message.chunks.add(response);
+        message.bytes += size;
+        bufferedBytes += size;
+
+        if (message.chunks.size() >= response.getChunkInfo().getTotal()) {
+            pending.remove(initialTransactionID);
+            bufferedBytes -= message.bytes;
+            return message.chunks;
+        }
+
+        evictOverflow();
+
+        return null;
+    }
+
+    /**
+     * Extract the serialized size of the chunks currently waiting for the rest of their message.
+     *
+     * @return                          the buffered bytes
+     */
+    synchronized long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    /**
+     * Extract the number of incomplete messages dropped because of the timeout or the byte cap.
+     *
+     * @return                          the number of evicted messages
+     */
+    synchronized long getEvictedMessages() {
+        return evictedMessages;
+    }
+
+    private void evictExpired(long now) {
+        for (Iterator<PendingMessage> it = pending.values().iterator(); it.hasNext(); ) {
+            var message = it.next();
+            if (now - message.firstChunkAt < timeoutNanos) {
+                break;
+            }
+
+            evict(it, message);
+        }
+    }
+
+    private void evictOverflow() {
+        for (Iterator<PendingMessage> it = pending.values().iterator(); it.hasNext() && bufferedBytes > maxBytes; ) {
+            evict(it, it.next());
+        }
+    }
+
+    private void evict(Iterator<PendingMessage> it, PendingMessage message) {
+        it.remove();
+        bufferedBytes -= message.bytes;
+        evictedMessages++;
+    }
+
+    /**
+     * The chunks received so far for one message.
+     */
+    private static final class PendingMessage {
+        final long firstChunkAt;
+
+        final ArrayList<ConsensusTopicResponse> chunks = new ArrayList<>();
+
+        long bytes = 0;
+
+        PendingMessage(long firstChunkAt) {
+            this.firstChunkAt = firstChunkAt;
+        }
+    }
+}
@@ -21,7 +21,6 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
 import com.hedera.hashgraph.sdk.proto.Timestamp;
-import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
@@ -39,8 +38,6 @@ import org.slf4j.LoggerFactory;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -60,6 +57,8 @@ public final class TopicMessageQuery {
     private int maxAttempts = 10;
     private Duration maxBackoff = Duration.ofSeconds(8L);
     private Predicate<Throwable> retryHandler = this::shouldRetry;
+    private Duration chunkBufferTimeout = Duration.ofMinutes(5L);
+    private long maxChunkBufferBytes = 16L * 1024L * 1024L;
 
     /**
      * Constructor.
@@ -179,6 +178,35 @@ public final class TopicMessageQuery {
         return this;
     }
 
+    /**
+     * Assign how long the chunks of an incomplete chunked message are kept before they are dropped.
+     *
+     * @param chunkBufferTimeout        the chunk buffer timeout
+     * @return {@code this}
+     */
+    public TopicMessageQuery setChunkBufferTimeout(Duration chunkBufferTimeout) {
+        if (chunkBufferTimeout == null || chunkBufferTimeout.isNegative() || chunkBufferTimeout.isZero()) {
+            throw new IllegalArgumentException("chunkBufferTimeout must be positive");
+        }
+        this.chunkBufferTimeout = chunkBufferTimeout;
+        return this;
+    }
+
+    /**
+     * Assign the maximum serialized size of the chunks buffered for incomplete chunked messages. When it is exceeded
+     * the oldest incomplete messages are dropped.
+     *
+     * @param maxChunkBufferBytes       the maximum buffered bytes
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxChunkBufferBytes(long maxChunkBufferBytes) {
+        if (maxChunkBufferBytes <= 0) {
+            throw new IllegalArgumentException("maxChunkBufferBytes must be positive");
+        }
+        this.maxChunkBufferBytes = maxChunkBufferBytes;
+        return this;
+    }
+
     private void onComplete() {
         var topicId = TopicId.fromProtobuf(builder.getTopicID());
         LOGGER.info("Subscription to topic {} complete", topicId);
@@ -230,11 +258,11 @@ public final class TopicMessageQuery {
      */
     // TODO: Refactor into a base class when we add more mirror query types
     public SubscriptionHandle subscribe(Client client, Consumer<TopicMessage> onNext) {
-        SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages = new HashMap<>();
+        var chunkBuffer = new TopicChunkBuffer(chunkBufferTimeout, maxChunkBufferBytes);
+        SubscriptionHandle subscriptionHandle = new SubscriptionHandle(chunkBuffer);
 
         try {
-            makeStreamingCall(client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), pendingMessages);
+            makeStreamingCall(client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), chunkBuffer);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -249,7 +277,7 @@ public final class TopicMessageQuery {
         int attempt,
         AtomicLong counter,
         AtomicReference<ConsensusTopicResponse> lastMessage,
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages
+        TopicChunkBuffer chunkBuffer
     ) throws InterruptedException {
         // TODO: check status of channel before using it?
         ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
@@ -260,6 +288,11 @@ public final class TopicMessageQuery {
             call.cancel("unsubscribe", null);
         });
 
+        // Unsubscribed while waiting to reconnect
+        if (subscriptionHandle.isUnsubscribed()) {
+            return;
+        }
+
         @Var
         var newBuilder = builder;
 
@@ -295,22 +328,9 @@ public final class TopicMessageQuery {
                     return;
                 }
 
-                // get the list of chunks for this pending message
-                var initialTransactionID = consensusTopicResponse.getChunkInfo().getInitialTransactionID();
-
-                // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
-                if (!pendingMessages.containsKey(initialTransactionID)) {
-                    pendingMessages.put(initialTransactionID, new ArrayList<>());
-                }
-
-                ArrayList<ConsensusTopicResponse> chunks = pendingMessages.get(initialTransactionID);
-
-                // not possible as we do [putIfAbsent]
-                // add our response to the pending chunk list
-                Objects.requireNonNull(chunks).add(consensusTopicResponse);
-
                 // if we now have enough chunks, emit
-                if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
+                var chunks = chunkBuffer.add(consensusTopicResponse);
+                if (chunks != null) {
                     var message = TopicMessage.ofMany(chunks);
 
                     try {
@@ -334,18 +354,18 @@ public final class TopicMessageQuery {
                     topicId, attempt, delay, t.getMessage());
                 call.cancel("unsubscribed", null);
 
-                // Cannot use `CompletableFuture<U>` here since this future is never polled
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-
-                try {
-                    makeStreamingCall(client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+                // Reconnect from the client's executor instead of sleeping on the gRPC callback thread
+                Delayer.delayFor(delay, client.executor).thenRun(() -> {
+                    try {
+                        makeStreamingCall(client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, chunkBuffer);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        errorHandler.accept(e, null);
+                    }
+                }).exceptionally(error -> {
+                    errorHandler.accept(error, null);
+                    return null;
+                });
             }
 
             @Override
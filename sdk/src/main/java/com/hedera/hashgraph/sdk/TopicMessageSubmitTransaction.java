@@ -151,7 +151,7 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
         try {
             for (var i = 0; i < innerSignedTransactions.size(); i += nodeAccountIds.isEmpty() ? 1 : nodeAccountIds.size()) {
                 data = data.concat(
-                    TransactionBody.parseFrom(innerSignedTransactions.get(i).getBodyBytes())
+                    TransactionBody.parseFrom(getSignedTransactionAt(i).getBodyBytes())
                         .getConsensusSubmitMessage().getMessage()
                 );
             }
@@ -21,10 +21,11 @@ package com.hedera.hashgraph.sdk;
 
 import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.SchedulableTransactionBody;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
-import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionList;
@@ -34,9 +35,12 @@ import org.bouncycastle.crypto.digests.SHA384Digest;
 import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Modifier;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -44,7 +48,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Base class for all transactions that may be built and submitted to Hedera.
@@ -52,7 +60,8 @@ import java.util.Set;
  * @param <T> The type of the transaction. Used to enable chaining.
  */
 public abstract class Transaction<T extends Transaction<T>>
-    extends Executable<T, com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse, TransactionResponse> {
+    extends Executable<T, com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse, TransactionResponse>
+    implements Cloneable {
 
     // Default auto renew duration for accounts, contracts, topics, and files (entities)
     static final Duration DEFAULT_AUTO_RENEW_PERIOD = Duration.ofDays(90);
@@ -77,11 +86,14 @@ public abstract class Transaction<T extends Transaction<T>>
     protected List<com.hedera.hashgraph.sdk.proto.SignedTransaction.Builder> innerSignedTransactions = Collections.emptyList();
     protected List<SignatureMap.Builder> sigPairLists = Collections.emptyList();
     protected LockableList<TransactionId> transactionIds = new LockableList<>();
-    // publicKeys and signers are parallel arrays.
+    // publicKeys, publicKeyPrefixes and signers are parallel arrays.
     // If the signer associated with a public key is null, that means that the private key
     // associated with that public key has already contributed a signature to sigPairListBuilders, but
     // the signer is not available (likely because this came from fromBytes())
+    // publicKeyPrefixes caches the raw key bytes used as the signature pair prefix so they are not copied for
+    // every node-specific transaction.
     protected List<PublicKey> publicKeys = new ArrayList<>();
+    protected List<ByteString> publicKeyPrefixes = new ArrayList<>();
     protected List<Function<byte[], byte[]>> signers = new ArrayList<>();
     protected Hbar defaultMaxTransactionFee = new Hbar(2);
     // For SDK Transactions that require multiple protobuf transaction ID's this variable keeps track of the current
@@ -100,6 +112,13 @@ public abstract class Transaction<T extends Transaction<T>>
     private String memo = "";
     protected Boolean regenerateTransactionId = null;
 
+    // Generates the transaction IDs regenerated after TRANSACTION_EXPIRED; taken from the client at freeze time
+    private TransactionIdGenerator transactionIdGenerator = TransactionIdGenerator.monotonic();
+
+    // When set, buildAllTransactions() builds and signs the node-specific transactions concurrently on this executor
+    @Nullable
+    private Executor signingExecutor = null;
+
     /**
      * Constructor.
      */
@@ -149,7 +168,7 @@ public abstract class Transaction<T extends Transaction<T>>
                     nodeAccountIds.add(nodeEntry.getKey());
                 }
 
-                var transaction = SignedTransaction.parseFrom(nodeEntry.getValue().getSignedTransactionBytes());
+                var transaction = TransactionListDecoder.parseSignedTransaction(nodeEntry.getValue().getSignedTransactionBytes());
                 outerTransactions.add(nodeEntry.getValue());
                 sigPairLists.add(transaction.getSigMap().toBuilder());
                 innerSignedTransactions.add(transaction.toBuilder());
@@ -157,6 +176,7 @@ public abstract class Transaction<T extends Transaction<T>>
                 if (publicKeys.isEmpty()) {
                     for (var sigPair : transaction.getSigMap().getSigPairList()) {
                         publicKeys.add(PublicKey.fromBytes(sigPair.getPubKeyPrefix().toByteArray()));
+                        publicKeyPrefixes.add(sigPair.getPubKeyPrefix());
                         signers.add(null);
                     }
                 }
@@ -166,26 +186,8 @@ public abstract class Transaction<T extends Transaction<T>>
         nodeAccountIds.remove(new AccountId(0)).setLocked(true);
         transactionIds.setLocked(true);
 
-        // Verify that transaction bodies match
-        for (@Var int i = 0; i < txCount; i++) {
-            @Var TransactionBody firstTxBody = null;
-            for (@Var int j = 0; j < nodeCount; j++) {
-                int k = i*nodeCount + j;
-                var txBody = TransactionBody.parseFrom(innerSignedTransactions.get(k).getBodyBytes());
-                if (firstTxBody == null) {
-                    firstTxBody = txBody;
-                } else {
-                    requireProtoMatches(
-                        firstTxBody,
-                        txBody,
-                        new HashSet<>(Arrays.asList("NodeAccountID")),
-                        "TransactionBody"
-                    );
-                }
-            }
-        }
-
-        sourceTransactionBody = TransactionBody.parseFrom(innerSignedTransactions.get(0).getBodyBytes());
+        // TransactionListDecoder already checked that the bodies of each transaction match, ignoring the node account ID
+        sourceTransactionBody = TransactionListDecoder.parseBody(innerSignedTransactions.get(0).getBodyBytes());
 
         setTransactionValidDuration(DurationConverter.fromProtobuf(sourceTransactionBody.getTransactionValidDuration()));
         setMaxTransactionFee(Hbar.fromTinybars(sourceTransactionBody.getTransactionFee()));
@@ -205,18 +207,21 @@ public abstract class Transaction<T extends Transaction<T>>
      * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
      */
     public static Transaction<?> fromBytes(byte[] bytes) throws InvalidProtocolBufferException {
-        var txs = new LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>>();
-        @Var TransactionBody.DataCase dataCase = TransactionBody.DataCase.DATA_NOT_SET;
-
-        var list = TransactionList.parseFrom(bytes);
+        var decoder = new TransactionListDecoder();
+
+        try {
+            decoder.readFrom(CodedInputStream.newInstance(bytes));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            // Reading from an array only fails on malformed input, which is reported above
+            throw new InvalidProtocolBufferException(e);
+        }
 
-        if (list.getTransactionListList().isEmpty()) {
+        if (decoder.isEmpty()) {
             var transaction = com.hedera.hashgraph.sdk.proto.Transaction.parseFrom(bytes).toBuilder();
 
-            TransactionBody txBody;
             if (transaction.getSignedTransactionBytes().isEmpty()) {
-                txBody = TransactionBody.parseFrom(transaction.getBodyBytes());
-
                 transaction.setSignedTransactionBytes(SignedTransaction.newBuilder()
                         .setBodyBytes(transaction.getBodyBytes())
                         .setSigMap(transaction.getSigMap())
@@ -224,41 +229,45 @@ public abstract class Transaction<T extends Transaction<T>>
                         .toByteString())
                     .clearBodyBytes()
                     .clearSigMap();
-            } else {
-                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                txBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
             }
 
-            dataCase = txBody.getDataCase();
-
-            var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
-            var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
-
-            var linked = new LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>();
-            linked.put(account, transaction.build());
-            txs.put(transactionId, linked);
-        } else {
-            for (var transaction : list.getTransactionListList()) {
-                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                var txBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
-
-                if (dataCase.getNumber() == TransactionBody.DataCase.DATA_NOT_SET.getNumber()) {
-                    dataCase = txBody.getDataCase();
-                }
-
-                var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
-                var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
+            decoder.add(transaction.build());
+        }
 
-                var linked = txs.containsKey(transactionId) ?
-                    Objects.requireNonNull(txs.get(transactionId)) :
-                    new LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>();
+        return fromDecodedTransactions(decoder.getDataCase(), decoder.getTransactions());
+    }
 
-                linked.put(account, transaction);
+    /**
+     * Create the correct transaction from a stream holding a transaction list, as written by {@link #toBytes()} or
+     * {@link #writeTo(OutputStream)}.
+     * <p>
+     * The list is decoded entry by entry as it is read, so the stream is never held in memory as a whole, and a body
+     * which does not match the others of its transaction fails the decoding as soon as it is read. The stream is read
+     * to its end and not closed.
+     *
+     * @param inputStream               the stream to read from
+     * @return                          the new transaction
+     * @throws IOException              when reading from the stream fails or there is an issue with the protobuf
+     */
+    public static Transaction<?> fromStream(InputStream inputStream) throws IOException {
+        var decoder = new TransactionListDecoder();
+        decoder.readFrom(CodedInputStream.newInstance(inputStream));
 
-                txs.put(transactionId, linked);
-            }
-        }
+        return fromDecodedTransactions(decoder.getDataCase(), decoder.getTransactions());
+    }
 
+    /**
+     * Create the correct transaction from decoded entries of a transaction list.
+     *
+     * @param dataCase                  the kind of transaction
+     * @param txs                       the entries grouped by transaction ID, then by node account ID
+     * @return                          the new transaction
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    private static Transaction<?> fromDecodedTransactions(
+        TransactionBody.DataCase dataCase,
+        LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs
+    ) throws InvalidProtocolBufferException {
         switch (dataCase) {
             case CONTRACTCALL:
                 return new ContractExecuteTransaction(txs);
@@ -519,99 +528,22 @@ public abstract class Transaction<T extends Transaction<T>>
         }
     }
 
-    private static void throwProtoMatchException(String fieldName, String aWas, String bWas) {
-        throw new IllegalArgumentException(
-            "fromBytes() failed because " + fieldName +
-                " fields in TransactionBody protobuf messages in the TransactionList did not match: A was " +
-                aWas + ", B was " + bWas
-        );
-    }
-
-    private static void requireProtoMatches(Object protoA, Object protoB, Set<String> ignoreSet, String thisFieldName) {
-        var aIsNull = protoA == null;
-        var bIsNull = protoB == null;
-        if (aIsNull != bIsNull) {
-            throwProtoMatchException(thisFieldName, aIsNull ? "null" : "not null", bIsNull ? "null" : "not null");
-        }
-        if (aIsNull) {
-            return;
-        }
-        var protoAClass = protoA.getClass();
-        var protoBClass = protoB.getClass();
-        if (!protoAClass.equals(protoBClass)) {
-            throwProtoMatchException(thisFieldName, "of class " + protoAClass, "of class " + protoBClass);
-        }
-        if (protoA instanceof Boolean ||
-            protoA instanceof Integer ||
-            protoA instanceof Long ||
-            protoA instanceof Float ||
-            protoA instanceof Double ||
-            protoA instanceof String ||
-            protoA instanceof ByteString
-        ) {
-            // System.out.println("values A = " + protoA.toString() + ", B = " + protoB.toString());
-            if (!protoA.equals(protoB)) {
-                throwProtoMatchException(thisFieldName, protoA.toString(), protoB.toString());
-            }
-        }
-        for (var method : protoAClass.getDeclaredMethods()) {
-            if (method.getParameterCount() != 0) {
-                continue;
-            }
-            int methodModifiers = method.getModifiers();
-            if ((!Modifier.isPublic(methodModifiers)) || Modifier.isStatic(methodModifiers)) {
-                continue;
-            }
-            var methodName = method.getName();
-            if (!methodName.startsWith("get")) {
-                continue;
-            }
-            var isList = methodName.endsWith("List") && List.class.isAssignableFrom(method.getReturnType());
-            var methodFieldName = methodName.substring(3, methodName.length() - (isList ? 4 : 0));
-            if (ignoreSet.contains(methodFieldName) || methodFieldName.equals("DefaultInstance")) {
-                continue;
-            }
-            if (!isList) {
-                try {
-                    var hasMethod = protoAClass.getMethod("has" + methodFieldName);
-                    var hasA = (Boolean) hasMethod.invoke(protoA);
-                    var hasB = (Boolean) hasMethod.invoke(protoB);
-                    if (!hasA.equals(hasB)) {
-                        throwProtoMatchException(methodFieldName, hasA ? "present" : "not present", hasB ? "present" : "not present");
-                    }
-                    if (!hasA) {
-                        continue;
-                    }
-                } catch (NoSuchMethodException ignored) {
-                    // pass if there is no has method
-                } catch (IllegalArgumentException error) {
-                    throw error;
-                } catch (Throwable error) {
-                    throw new IllegalArgumentException("fromBytes() failed due to error", error);
-                }
-            }
-            try {
-                var retvalA = method.invoke(protoA);
-                var retvalB = method.invoke(protoB);
-                if (isList) {
-                    var listA = (List<?>) retvalA;
-                    var listB = (List<?>) retvalB;
-                    if (listA.size() != listB.size()) {
-                        throwProtoMatchException(methodFieldName, "of size " + listA.size(), "of size " + listB.size());
-                    }
-                    for (@Var int i = 0; i < listA.size(); i++) {
-                        // System.out.println("comparing " + thisFieldName + "." + methodFieldName + "[" + i + "]");
-                        requireProtoMatches(listA.get(i), listB.get(i), ignoreSet, methodFieldName + "[" + i + "]");
-                    }
-                } else {
-                    // System.out.println("comparing " + thisFieldName + "." + methodFieldName);
-                    requireProtoMatches(retvalA, retvalB, ignoreSet, methodFieldName);
-                }
-            } catch (IllegalArgumentException error) {
-                throw error;
-            } catch (Throwable error) {
-                throw new IllegalArgumentException("fromBytes() failed due to error", error);
-            }
+    /**
+     * Require that the bodies of every node-specific transaction in a group are the same, apart from the node account
+     * ID.
+     * <p>
+     * Comparison uses the generated protobuf equality, which walks the message schema rather than reflecting over
+     * getters, so decoding a transaction signed for many nodes stays cheap.
+     *
+     * @param firstTxBody               the body of the first transaction in the group
+     * @param txBody                    the body to compare against it
+     */
+    static void requireBodiesMatch(TransactionBody firstTxBody, TransactionBody txBody) {
+        if (!firstTxBody.equals(txBody)) {
+            throw new IllegalArgumentException(
+                "fromBytes() failed because TransactionBody protobuf messages in the TransactionList did not match: A was " +
+                    firstTxBody + ", B was " + txBody
+            );
         }
     }
 
@@ -775,19 +707,93 @@ public abstract class Transaction<T extends Transaction<T>>
      * @return                          the byte array representation
      */
     public byte[] toBytes() {
+        var bytes = new byte[getSerializedSize()];
+        var output = CodedOutputStream.newInstance(bytes);
+
+        try {
+            writeTransactionList(output);
+        } catch (IOException e) {
+            // The array was sized to fit the transactions exactly
+            throw new IllegalStateException(e);
+        }
+
+        output.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    /**
+     * Extract the size of the byte array representation, as written by {@link #toBytes()} and the {@code writeTo}
+     * methods, building the transactions first if needed.
+     *
+     * @return                          the size in bytes
+     */
+    public int getSerializedSize() {
         if (!this.isFrozen()) {
             throw new IllegalStateException("transaction must have been frozen before conversion to bytes will be stable, try calling `freeze`");
         }
 
         buildAllTransactions();
 
-        var list = TransactionList.newBuilder();
-
+        @Var var size = 0;
         for (var transaction : outerTransactions) {
-            list.addTransactionList(transaction);
+            size += CodedOutputStream.computeMessageSize(TransactionList.TRANSACTION_LIST_FIELD_NUMBER, transaction);
+        }
+
+        return size;
+    }
+
+    /**
+     * Write the byte array representation to a stream, without copying it into an intermediate array first.
+     * <p>
+     * The stream receives the same bytes as {@link #toBytes()} would return. It is not closed.
+     *
+     * @param outputStream              the stream to write to
+     * @throws IOException              if writing to the stream fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        var size = getSerializedSize();
+        var output = CodedOutputStream.newInstance(outputStream, CodedOutputStream.computePreferredBufferSize(size));
+
+        writeTransactionList(output);
+        output.flush();
+    }
+
+    /**
+     * Write the byte array representation into a buffer at its position, which is advanced past it.
+     * <p>
+     * The buffer receives the same bytes as {@link #toBytes()} would return.
+     *
+     * @param buffer                    the buffer to write into
+     * @throws BufferOverflowException  if the buffer has less than {@link #getSerializedSize()} bytes remaining, in which
+     *                                  case nothing is written
+     */
+    public void writeTo(ByteBuffer buffer) {
+        if (buffer.remaining() < getSerializedSize()) {
+            throw new BufferOverflowException();
         }
 
-        return list.build().toByteArray();
+        var output = CodedOutputStream.newInstance(buffer);
+
+        try {
+            writeTransactionList(output);
+            output.flush();
+        } catch (IOException e) {
+            // The buffer was checked to have room for the transactions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Write the built transactions as the entries of a {@link TransactionList}, field by field, which encodes the same as
+     * building the list and serializing it.
+     *
+     * @param output                    the stream to write to
+     * @throws IOException              if writing fails
+     */
+    private void writeTransactionList(CodedOutputStream output) throws IOException {
+        for (var transaction : outerTransactions) {
+            output.writeMessage(TransactionList.TRANSACTION_LIST_FIELD_NUMBER, transaction);
+        }
     }
 
     /**
@@ -836,6 +842,17 @@ public abstract class Transaction<T extends Transaction<T>>
         return transactionIds.getCurrent();
     }
 
+    @Override
+    @Nullable
+    RequestType getThrottledRequestType() {
+        return frozenBodyBuilder != null ? RequestType.valueOf(frozenBodyBuilder.getDataCase()) : null;
+    }
+
+    @Override
+    RequestType getRequestType(com.hedera.hashgraph.sdk.proto.Transaction request) {
+        return frozenBodyBuilder != null ? RequestType.valueOf(frozenBodyBuilder.getDataCase()) : RequestType.NONE;
+    }
+
     /**
      * Extract the transaction id.
      *
@@ -893,6 +910,33 @@ public abstract class Transaction<T extends Transaction<T>>
         return (T) this;
     }
 
+    /**
+     * Extract the executor used to build and sign the node-specific transactions concurrently.
+     *
+     * @return                          the signing executor, or null when signing sequentially
+     */
+    @Nullable
+    public final Executor getSigningExecutor() {
+        return signingExecutor;
+    }
+
+    /**
+     * Build and sign the node-specific transactions concurrently on the given executor whenever all of them are
+     * needed at once, e.g. in {@link #toBytes()} and {@link #getSignatures()}.
+     * <p>
+     * Output ordering is unaffected. Every signer passed to {@link #signWith(PublicKey, Function)} must be safe to
+     * call from multiple threads.
+     *
+     * @param signingExecutor           the executor, or null to sign sequentially on the calling thread
+     * @return {@code this}
+     */
+    public final T setSigningExecutor(@Nullable Executor signingExecutor) {
+        this.signingExecutor = signingExecutor;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
     /**
      * Sign the transaction.
      *
@@ -924,6 +968,7 @@ public abstract class Transaction<T extends Transaction<T>>
             outerTransactions.set(i, null);
         }
         publicKeys.add(publicKey);
+        publicKeyPrefixes.add(ByteString.copyFrom(publicKey.toBytesRaw()));
         signers.add(transactionSigner);
 
         // noinspection unchecked
@@ -980,6 +1025,7 @@ public abstract class Transaction<T extends Transaction<T>>
             outerTransactions.set(i, null);
         }
         publicKeys.add(publicKey);
+        publicKeyPrefixes.add(ByteString.copyFrom(publicKey.toBytesRaw()));
         signers.add(null);
         sigPairLists.get(0).addSigPair(publicKey.toSignaturePairProtobuf(signature));
 
@@ -1090,14 +1136,20 @@ public abstract class Transaction<T extends Transaction<T>>
             return (T) this;
         }
 
+        if (client != null) {
+            transactionIdGenerator = client.getTransactionIdGenerator();
+        }
+
         if (transactionIds.isEmpty()) {
             if (client != null) {
                 var operator = client.getOperator();
 
                 if (operator != null) {
-                    // Set a default transaction ID, generated from the operator account ID
+                    // Set a default transaction ID, generated from the operator account ID, leaving room for one
+                    // ID per chunk after it
 
-                    transactionIds.setList(Collections.singletonList(TransactionId.generate(operator.accountId)));
+                    transactionIds.setList(Collections.singletonList(
+                        transactionIdGenerator.generate(operator.accountId, getRequiredChunks())));
                 } else {
                     // no client means there must be an explicitly set node ID and transaction ID
                     throw new IllegalStateException(
@@ -1131,6 +1183,10 @@ public abstract class Transaction<T extends Transaction<T>>
         var clientDefaultRegenerateTransactionId = client != null ? client.getDefaultRegenerateTransactionId() : null;
         regenerateTransactionId = regenerateTransactionId != null ? regenerateTransactionId : clientDefaultRegenerateTransactionId;
 
+        if (signingExecutor == null && client != null && client.isParallelSigningEnabled()) {
+            signingExecutor = client.executor;
+        }
+
         // noinspection unchecked
         return (T) this;
     }
@@ -1187,18 +1243,107 @@ public abstract class Transaction<T extends Transaction<T>>
         sigPairLists = new ArrayList<>(nodeAccountIds.size());
         innerSignedTransactions = new ArrayList<>(nodeAccountIds.size());
 
-        for (AccountId nodeId : nodeAccountIds) {
+        // Bodies are serialized on first access in getSignedTransactionAt()
+        for (var i = 0; i < nodeAccountIds.size(); i++) {
             sigPairLists.add(SignatureMap.newBuilder());
-            innerSignedTransactions.add(SignedTransaction.newBuilder()
-                .setBodyBytes(Objects.requireNonNull(frozenBodyBuilder)
-                    .setNodeAccountID(nodeId.toProtobuf())
-                    .build()
-                    .toByteString()
-                ));
+            innerSignedTransactions.add(null);
             outerTransactions.add(null);
         }
     }
 
+    /**
+     * Get the signed transaction at {@code index}, serializing its body on first access.
+     * <p>
+     * {@link #wipeTransactionLists(int)} leaves every entry empty so that only the transactions which are actually
+     * sent, serialized or signed pay for building their body.
+     *
+     * @param index                     the index into the transaction lists
+     * @return                          the signed transaction builder
+     */
+    synchronized SignedTransaction.Builder getSignedTransactionAt(int index) {
+        @Var var signedTransaction = innerSignedTransactions.get(index);
+
+        if (signedTransaction == null) {
+            signedTransaction = SignedTransaction.newBuilder().setBodyBytes(buildBodyBytesAt(index));
+            innerSignedTransactions.set(index, signedTransaction);
+        }
+
+        return signedTransaction;
+    }
+
+    /**
+     * Serialize the transaction body for the given index into the transaction lists.
+     * Only called while holding the lock of {@link #getSignedTransactionAt(int)}.
+     *
+     * @param index                     the index into the transaction lists
+     * @return                          the serialized body
+     */
+    ByteString buildBodyBytesAt(int index) {
+        return Objects.requireNonNull(frozenBodyBuilder)
+            .setNodeAccountID(nodeAccountIds.get(index % nodeAccountIds.size()).toProtobuf())
+            .build()
+            .toByteString();
+    }
+
+    /**
+     * Create a frozen copy of this single-chunk transaction with another transaction ID and memo, from bodies which
+     * are already serialized. This is how {@link TransactionTemplate} stamps out transactions without freezing them.
+     * <p>
+     * Signers added with {@link #signWith(PublicKey, Function)} carry over and sign the copy's bodies when it is built.
+     * Signatures added with {@link #addSignature(PublicKey, byte[])} only match this transaction's bodies and are not
+     * copied.
+     *
+     * @param transactionId             the transaction ID of the copy
+     * @param memo                      the memo of the copy
+     * @param frozenBodyBuilder         the body of the copy
+     * @param bodyBytes                 the serialized body for each node, in the order of the node account IDs
+     * @return                          the copy
+     */
+    T copyWithBodies(
+        TransactionId transactionId,
+        String memo,
+        TransactionBody.Builder frozenBodyBuilder,
+        List<ByteString> bodyBytes
+    ) {
+        Transaction<T> copy;
+        try {
+            // noinspection unchecked
+            copy = (Transaction<T>) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+
+        copy.detachExecutionState();
+        copy.memo = memo;
+        copy.frozenBodyBuilder = frozenBodyBuilder;
+
+        copy.transactionIds = new LockableList<>();
+        copy.transactionIds.setList(Collections.singletonList(transactionId)).setLocked(true);
+
+        copy.outerTransactions = new ArrayList<>(bodyBytes.size());
+        copy.sigPairLists = new ArrayList<>(bodyBytes.size());
+        copy.innerSignedTransactions = new ArrayList<>(bodyBytes.size());
+        for (var body : bodyBytes) {
+            copy.outerTransactions.add(null);
+            copy.sigPairLists.add(SignatureMap.newBuilder());
+            copy.innerSignedTransactions.add(SignedTransaction.newBuilder().setBodyBytes(body));
+        }
+
+        copy.publicKeys = new ArrayList<>(publicKeys.size());
+        copy.publicKeyPrefixes = new ArrayList<>(publicKeys.size());
+        copy.signers = new ArrayList<>(publicKeys.size());
+        for (var i = 0; i < publicKeys.size(); i++) {
+            if (signers.get(i) != null) {
+                copy.publicKeys.add(publicKeys.get(i));
+                copy.publicKeyPrefixes.add(publicKeyPrefixes.get(i));
+                copy.signers.add(signers.get(i));
+            }
+        }
+
+        // noinspection unchecked
+        return (T) copy;
+    }
+
     /**
      * Build all the transactions.
      */
@@ -1206,8 +1351,74 @@ public abstract class Transaction<T extends Transaction<T>>
         transactionIds.setLocked(true);
         nodeAccountIds.setLocked(true);
 
-        for (var i = 0; i < innerSignedTransactions.size(); ++i) {
-            buildTransaction(i);
+        var size = innerSignedTransactions.size();
+
+        if (signingExecutor == null || size < 2) {
+            for (var i = 0; i < size; ++i) {
+                buildTransaction(i);
+            }
+
+            return;
+        }
+
+        buildAllTransactionsConcurrently(signingExecutor, size);
+    }
+
+    /**
+     * Build every transaction using the calling thread and up to one helper task per processor.
+     * <p>
+     * Each index is built exactly once and only writes to its own slot in the transaction lists, so the output is
+     * identical to the sequential build. Indices are claimed from a shared counter, and the calling thread only
+     * waits for indices that were claimed by a running helper, so this cannot deadlock when called from a thread of
+     * a saturated {@code executor}.
+     *
+     * @param executor                  the executor to run helper tasks on
+     * @param size                      the number of transactions
+     */
+    private void buildAllTransactionsConcurrently(Executor executor, int size) {
+        var nextIndex = new AtomicInteger();
+        var remaining = new CountDownLatch(size);
+        var error = new AtomicReference<Throwable>();
+
+        Runnable worker = () -> {
+            @Var int index;
+            while ((index = nextIndex.getAndIncrement()) < size) {
+                try {
+                    buildTransaction(index);
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+
+        var helpers = Math.min(size - 1, Runtime.getRuntime().availableProcessors());
+        for (var i = 0; i < helpers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // The calling thread will pick up the work
+                break;
+            }
+        }
+
+        worker.run();
+
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        var cause = error.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else if (cause != null) {
+            throw new RuntimeException(cause);
         }
     }
 
@@ -1231,22 +1442,13 @@ public abstract class Transaction<T extends Transaction<T>>
 
         outerTransactions.set(index, com.hedera.hashgraph.sdk.proto.Transaction.newBuilder()
             .setSignedTransactionBytes(
-                innerSignedTransactions.get(index)
+                getSignedTransactionAt(index)
                     .setSigMap(sigPairLists.get(index))
                     .build()
                     .toByteString()
             ).build());
     }
 
-    private static boolean publicKeyIsInSigPairList(ByteString publicKeyBytes, List<SignaturePair> sigPairList) {
-        for (var pair : sigPairList) {
-            if (pair.getPubKeyPrefix().equals(publicKeyBytes)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Will sign the specific transaction at {@code index}
      * This function is only ever called after the transaction is frozen.
@@ -1254,22 +1456,31 @@ public abstract class Transaction<T extends Transaction<T>>
      * @param index                     the index of the transaction to sign
      */
     void signTransaction(int index) {
-        var bodyBytes = innerSignedTransactions.get(index).getBodyBytes().toByteArray();
-        var thisSigPairList = sigPairLists.get(index).getSigPairList();
+        var sigMap = sigPairLists.get(index);
+
+        // Index the keys which already signed this body so checking each signer is O(1)
+        var signedKeyPrefixes = new HashSet<ByteString>(sigMap.getSigPairCount() + publicKeys.size());
+        for (var pair : sigMap.getSigPairList()) {
+            signedKeyPrefixes.add(pair.getPubKeyPrefix());
+        }
+
+        @Var byte[] bodyBytes = null;
 
         for (var i = 0; i < publicKeys.size(); i++) {
             if (signers.get(i) == null) {
                 continue;
             }
-            if (publicKeyIsInSigPairList(ByteString.copyFrom(publicKeys.get(i).toBytesRaw()), thisSigPairList)) {
+            if (!signedKeyPrefixes.add(publicKeyPrefixes.get(i))) {
                 continue;
             }
 
+            if (bodyBytes == null) {
+                bodyBytes = getSignedTransactionAt(index).getBodyBytes().toByteArray();
+            }
+
             var signatureBytes = signers.get(i).apply(bodyBytes);
 
-            sigPairLists
-                .get(index)
-                .addSigPair(publicKeys.get(i).toSignaturePairProtobuf(signatureBytes));
+            sigMap.addSigPair(publicKeys.get(i).toSignaturePairProtobuf(signatureBytes));
         }
     }
 
@@ -1357,7 +1568,7 @@ public abstract class Transaction<T extends Transaction<T>>
                 } else {
                     var firstTransactionId = Objects.requireNonNull(transactionIds.get(0));
                     var accountId = Objects.requireNonNull(firstTransactionId.accountId);
-                    generateTransactionIds(TransactionId.generate(accountId), transactionIds.size());
+                    generateTransactionIds(transactionIdGenerator.generate(accountId, transactionIds.size()), transactionIds.size());
                     wipeTransactionLists(transactionIds.size());
                     return ExecutionState.Retry;
                 }
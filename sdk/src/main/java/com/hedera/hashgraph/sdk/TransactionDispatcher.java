@@ -0,0 +1,183 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Dispatches batches of transactions while bounding how many are in flight per node.
+ * <p>
+ * Every transaction is keyed by the first node it will be sent to. When the window of that node is full the
+ * transaction waits in a queue, and it is only frozen and executed once a slot frees up. So a transaction ID's valid
+ * start is not spent waiting in the queue. Retries to other nodes stay inside the slot of the first node.
+ */
+class TransactionDispatcher {
+    private final Client client;
+
+    private final ConcurrentMap<AccountId, NodeWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client used to freeze and execute transactions
+     */
+    TransactionDispatcher(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Submit every transaction and return one future per transaction, in input order.
+     *
+     * @param transactions              the transactions to execute
+     * @return                          the futures of the responses, in input order
+     */
+    List<CompletableFuture<TransactionResponse>> executeAllAsync(List<? extends Transaction<?>> transactions) {
+        var futures = new ArrayList<CompletableFuture<TransactionResponse>>(transactions.size());
+
+        for (var transaction : transactions) {
+            var future = new CompletableFuture<TransactionResponse>();
+            futures.add(future);
+
+            try {
+                var nodeAccountId = assignNodes(transaction);
+                dispatch(nodeAccountId, () -> transaction.executeAsync(client), future);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        return futures;
+    }
+
+    /**
+     * Make sure the transaction has its nodes selected, spreading unassigned transactions over the healthy nodes.
+     *
+     * @param transaction               the transaction
+     * @return                          the account ID of the first node the transaction will be sent to
+     */
+    private AccountId assignNodes(Transaction<?> transaction) {
+        if (transaction.nodeAccountIds.isEmpty()) {
+            try {
+                transaction.setNodeAccountIds(client.network.getNodeAccountIdsForExecute());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        return transaction.nodeAccountIds.get(0);
+    }
+
+    private void dispatch(
+        AccountId nodeAccountId,
+        Supplier<CompletableFuture<TransactionResponse>> execute,
+        CompletableFuture<TransactionResponse> future
+    ) {
+        var window = getWindow(nodeAccountId);
+        Runnable start = () -> start(window, execute, future);
+
+        synchronized (window) {
+            if (window.inFlight >= client.getMaxInFlightTransactionsPerNode()) {
+                window.pending.add(start);
+                return;
+            }
+
+            window.inFlight++;
+        }
+
+        start.run();
+    }
+
+    private NodeWindow getWindow(AccountId nodeAccountId) {
+        @Nullable
+        var window = windows.get(nodeAccountId);
+        if (window != null) {
+            return window;
+        }
+
+        var created = new NodeWindow();
+
+        @Nullable
+        var existing = windows.putIfAbsent(nodeAccountId, created);
+        return existing != null ? existing : created;
+    }
+
+    private void start(
+        NodeWindow window,
+        Supplier<CompletableFuture<TransactionResponse>> execute,
+        CompletableFuture<TransactionResponse> future
+    ) {
+        execute(execute).whenComplete((response, error) -> {
+            release(window);
+
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(response);
+            }
+        });
+    }
+
+    private static CompletableFuture<TransactionResponse> execute(Supplier<CompletableFuture<TransactionResponse>> execute) {
+        try {
+            return execute.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void release(NodeWindow window) {
+        Runnable next;
+
+        synchronized (window) {
+            next = window.pending.poll();
+
+            // The slot passes straight to the next queued transaction
+            if (next == null) {
+                window.inFlight--;
+                return;
+            }
+        }
+
+        // Start on the executor so a long queue does not grow the stack of the completing thread
+        try {
+            client.executor.execute(next);
+        } catch (RejectedExecutionException e) {
+            next.run();
+        }
+    }
+
+    /**
+     * The in-flight count and queue of a single node.
+     */
+    private static final class NodeWindow {
+        int inFlight = 0;
+        final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+    }
+}
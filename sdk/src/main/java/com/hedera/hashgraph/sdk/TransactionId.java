@@ -23,7 +23,6 @@ import com.google.errorprone.annotations.Var;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.TransactionID;
 import java8.util.concurrent.CompletableFuture;
-import org.threeten.bp.Clock;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
@@ -87,12 +86,16 @@ public final class TransactionId implements WithGetReceipt, WithGetRecord, Compa
      * <p>Note that transaction IDs are made of the valid start of the transaction and the account
      * that will be charged the transaction fees for the transaction.
      *
+     * <p>IDs are generated with {@link TransactionIdGenerator#monotonic()}, so two IDs generated
+     * for the same account never collide.
+     *
      * @param accountId the ID of the Hedera account that will be charge the transaction fees.
      * @return {@link com.hedera.hashgraph.sdk.TransactionId}
+     * @throws IllegalStateException when the system clock has moved back by more than the 10 seconds
+     *                               valid starts are set back by, since the last ID generated for the account
      */
     public static TransactionId generate(AccountId accountId) {
-        Instant instant = Clock.systemUTC().instant().minusNanos((long) (Math.random() * 5000000000L + 8000000000L));
-        return new TransactionId(accountId, instant);
+        return TransactionIdGenerator.monotonic().generate(accountId, 1);
     }
 
     /**
@@ -223,9 +226,7 @@ public final class TransactionId implements WithGetReceipt, WithGetRecord, Compa
     @Override
     @FunctionalExecutable(type = "TransactionReceipt", exceptionTypes = {"ReceiptStatusException"})
     public CompletableFuture<TransactionReceipt> getReceiptAsync(Client client) {
-        return new TransactionReceiptQuery()
-            .setTransactionId(this)
-            .executeAsync(client)
+        return client.receiptTracker.track(this, null)
             .thenCompose(receipt -> {
                 if (receipt.status != Status.SUCCESS) {
                     return failedFuture(new ReceiptStatusException(this, receipt));
@@ -0,0 +1,73 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.threeten.bp.Clock;
+
+/**
+ * Generates the IDs of the transactions a client freezes, and of the payments for its queries.
+ * <p>
+ * An implementation must be thread-safe. Two IDs with the same payer and valid start are the same transaction to the
+ * network, which rejects the second one with {@link Status#DUPLICATE_TRANSACTION}.
+ *
+ * @see Client#setTransactionIdGenerator(TransactionIdGenerator)
+ */
+public interface TransactionIdGenerator {
+    /**
+     * Generate IDs which are unique and strictly increasing per payer account. This is the default.
+     * <p>
+     * Valid starts are taken from the clock, set back by a fixed offset against clock skew, and moved one nanosecond
+     * past the last valid start handed out for the account whenever the clock has not moved on. The generator is
+     * lock-free and shared by every client of the JVM, so clients with the same operator do not collide either.
+     * <p>
+     * Valid starts are set back from the clock by 10 seconds. When the clock moves back by more than that since the
+     * last ID of an account, the generator throws {@link IllegalStateException} rather than hand out an ID which may
+     * collide with an earlier one.
+     *
+     * @return                          the monotonic generator
+     */
+    static TransactionIdGenerator monotonic() {
+        return MonotonicTransactionIdGenerator.INSTANCE;
+    }
+
+    /**
+     * Generate IDs with a valid start set back from the clock by a random offset between 8 and 13 seconds, as
+     * {@link TransactionId#generate(AccountId)} did before. IDs may collide when the same account pays for many
+     * transactions per second.
+     *
+     * @return                          the random generator
+     */
+    static TransactionIdGenerator random() {
+        return (accountId, count) -> new TransactionId(
+            accountId,
+            Clock.systemUTC().instant().minusNanos((long) (Math.random() * 5000000000L + 8000000000L))
+        );
+    }
+
+    /**
+     * Generate the IDs of {@code count} transactions paid by an account, such as the chunks of a chunked transaction,
+     * whose valid starts are one nanosecond apart.
+     *
+     * @param accountId                 the account which pays for the transactions
+     * @param count                     the number of IDs, at least 1
+     * @return                          the first ID; the others follow it nanosecond by nanosecond
+     */
+    TransactionId generate(AccountId accountId, int count);
+}
@@ -0,0 +1,173 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decodes the entries of a {@link TransactionList} one at a time, grouping them by transaction ID and node, and checks
+ * each body against the others of its transaction as soon as it is read.
+ * <p>
+ * Signed transactions and bodies are parsed with aliasing, so their byte fields share the bytes of the outer
+ * transaction they came from instead of being copied out of it; each body is held once however many times it is
+ * parsed.
+ */
+final class TransactionListDecoder {
+    private final LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> transactions =
+        new LinkedHashMap<>();
+
+    // The body of the first entry of each transaction ID, without its node account ID, which the others must match
+    private final Map<TransactionId, TransactionBody> firstBodies = new HashMap<>();
+
+    private TransactionBody.DataCase dataCase = TransactionBody.DataCase.DATA_NOT_SET;
+
+    /**
+     * Parse a signed transaction whose byte fields share {@code bytes} rather than copying them.
+     *
+     * @param bytes                     the serialized signed transaction, which must not change
+     * @return                          the signed transaction
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    static SignedTransaction parseSignedTransaction(ByteString bytes) throws InvalidProtocolBufferException {
+        var input = bytes.newCodedInput();
+        input.enableAliasing(true);
+
+        return SignedTransaction.parseFrom(input);
+    }
+
+    /**
+     * Parse a transaction body whose byte fields share {@code bytes} rather than copying them.
+     *
+     * @param bytes                     the serialized body, which must not change
+     * @return                          the body
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     */
+    static TransactionBody parseBody(ByteString bytes) throws InvalidProtocolBufferException {
+        var input = bytes.newCodedInput();
+        input.enableAliasing(true);
+
+        return TransactionBody.parseFrom(input);
+    }
+
+    /**
+     * Read the entries of a transaction list until the end of the input. Fields other than the entries are skipped.
+     *
+     * @param input                     the input positioned at the start of the list
+     * @throws IOException              when reading fails or there is an issue with the protobuf
+     */
+    void readFrom(CodedInputStream input) throws IOException {
+        while (true) {
+            var tag = input.readTag();
+            if (tag == 0) {
+                return;
+            }
+
+            if (WireFormat.getTagFieldNumber(tag) == TransactionList.TRANSACTION_LIST_FIELD_NUMBER &&
+                WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                add(input.readMessage(
+                    com.hedera.hashgraph.sdk.proto.Transaction.parser(),
+                    ExtensionRegistryLite.getEmptyRegistry()
+                ));
+            } else if (!input.skipField(tag)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Add an entry of the list.
+     *
+     * @param transaction               the entry
+     * @throws InvalidProtocolBufferException       when there is an issue with the protobuf
+     * @throws IllegalArgumentException             when the body does not match the others of its transaction
+     */
+    void add(com.hedera.hashgraph.sdk.proto.Transaction transaction) throws InvalidProtocolBufferException {
+        var signedTransaction = parseSignedTransaction(transaction.getSignedTransactionBytes());
+        var txBody = parseBody(signedTransaction.getBodyBytes());
+
+        if (dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
+            dataCase = txBody.getDataCase();
+        }
+
+        var account = AccountId.fromProtobuf(txBody.getNodeAccountID());
+        var transactionId = TransactionId.fromProtobuf(txBody.getTransactionID());
+
+        var bodyWithoutNode = txBody.toBuilder().clearNodeAccountID().build();
+        // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
+        @Nullable
+        var firstBody = firstBodies.get(transactionId);
+        if (firstBody != null) {
+            Transaction.requireBodiesMatch(firstBody, bodyWithoutNode);
+        } else {
+            firstBodies.put(transactionId, bodyWithoutNode);
+        }
+
+        @Nullable
+        @Var
+        var linked = transactions.get(transactionId);
+        if (linked == null) {
+            linked = new LinkedHashMap<>();
+            transactions.put(transactionId, linked);
+        }
+
+        linked.put(account, transaction);
+    }
+
+    /**
+     * Is no entry decoded yet?
+     *
+     * @return                          whether the list is empty
+     */
+    boolean isEmpty() {
+        return transactions.isEmpty();
+    }
+
+    /**
+     * Extract the kind of transaction, taken from the first entry.
+     *
+     * @return                          the data case of the bodies
+     */
+    TransactionBody.DataCase getDataCase() {
+        return dataCase;
+    }
+
+    /**
+     * Extract the entries grouped by transaction ID, then by node account ID, in the order they were read.
+     *
+     * @return                          the entries
+     */
+    LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> getTransactions() {
+        return transactions;
+    }
+}
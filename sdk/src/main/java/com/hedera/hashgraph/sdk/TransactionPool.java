@@ -0,0 +1,384 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java8.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a number of transactions stamped from a {@link TransactionTemplate} frozen, signed and built ahead of demand,
+ * so a burst of submissions does not pay for generating transaction IDs and signing.
+ * <p>
+ * The pool is filled in the background on the client's executor, and refilled as transactions are taken. Each
+ * transaction is signed by the template's signers and, when the client's operator pays for it, by the operator, so
+ * executing it sends the prebuilt transactions as they are.
+ * <p>
+ * A transaction is only valid for its valid duration after its valid start. The pool drops transactions an
+ * {@link #setExpiryMargin(Duration) expiry margin} before that, so what it hands out has time left to reach the network
+ * and be retried before it would fail with {@link Status#TRANSACTION_EXPIRED}.
+ *
+ * <pre>{@code
+ * var pool = new TransactionPool<>(client, template, 1000);
+ *
+ * // later, when the burst comes
+ * pool.take().executeAsync(client);
+ * }</pre>
+ *
+ * @param <T>                           the type of transaction
+ */
+public final class TransactionPool<T extends Transaction<T>> implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPool.class);
+
+    private static final Duration DEFAULT_EXPIRY_MARGIN = Duration.ofSeconds(30);
+
+    private final Client client;
+
+    private final TransactionTemplate<T> template;
+
+    private final AccountId payerAccountId;
+
+    private final int targetDepth;
+
+    // Ready transactions, oldest first, so those closest to expiring are handed out first
+    private final ConcurrentLinkedDeque<Entry<T>> ready = new ConcurrentLinkedDeque<>();
+
+    // The size of ready, which ConcurrentLinkedDeque can only count by walking it
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    private volatile Duration expiryMargin = DEFAULT_EXPIRY_MARGIN;
+
+    private volatile boolean closed = false;
+
+    private boolean expiryScheduled = false;
+
+    /**
+     * Create a pool and start filling it.
+     *
+     * @param client                    the client whose executor builds the transactions, and whose operator signs them
+     *                                  when it pays for them
+     * @param template                  the template the transactions are stamped from
+     * @param targetDepth               the number of ready transactions to keep
+     */
+    public TransactionPool(Client client, TransactionTemplate<T> template, int targetDepth) {
+        if (targetDepth < 1) {
+            throw new IllegalArgumentException("targetDepth must be at least 1");
+        }
+
+        this.client = client;
+        this.template = template;
+        this.payerAccountId = template.getPayerAccountId();
+        this.targetDepth = targetDepth;
+
+        scheduleRefill();
+    }
+
+    /**
+     * Extract the time before the end of its valid duration at which a transaction is dropped from the pool.
+     *
+     * @return                          the expiry margin
+     */
+    public Duration getExpiryMargin() {
+        return expiryMargin;
+    }
+
+    /**
+     * Assign the time before the end of its valid duration at which a transaction is dropped from the pool. It must
+     * leave enough time to send the transaction and retry it. The default is 30 seconds.
+     *
+     * @param expiryMargin              the expiry margin, shorter than the template's transaction valid duration
+     * @return {@code this}
+     */
+    public TransactionPool<T> setExpiryMargin(Duration expiryMargin) {
+        Objects.requireNonNull(expiryMargin);
+
+        if (expiryMargin.isNegative() || expiryMargin.compareTo(template.getTransactionValidDuration()) >= 0) {
+            throw new IllegalArgumentException("expiryMargin must be between 0 and the transaction valid duration");
+        }
+
+        this.expiryMargin = expiryMargin;
+        return this;
+    }
+
+    /**
+     * Extract the number of ready transactions the pool keeps when it can.
+     *
+     * @return                          the target depth
+     */
+    public int getTargetDepth() {
+        return targetDepth;
+    }
+
+    /**
+     * Extract the number of ready transactions, which may include some which expire before they are taken.
+     *
+     * @return                          the depth of the pool
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Take a ready transaction out of the pool.
+     *
+     * @return                          the transaction, or null when the pool is empty or closed
+     */
+    @Nullable
+    public T poll() {
+        if (closed) {
+            return null;
+        }
+
+        var now = System.currentTimeMillis();
+
+        @Nullable
+        @Var
+        T transaction = null;
+        while (transaction == null) {
+            @Nullable
+            var entry = ready.pollFirst();
+            if (entry == null) {
+                break;
+            }
+
+            depthChanged(depth.decrementAndGet());
+            if (entry.expiresAt > now) {
+                transaction = entry.transaction;
+            }
+        }
+
+        scheduleRefill();
+
+        return transaction;
+    }
+
+    /**
+     * Take a ready transaction out of the pool, or build one on the calling thread when the pool is empty.
+     *
+     * @return                          the transaction
+     */
+    public T take() {
+        @Nullable
+        var transaction = poll();
+        return transaction != null ? transaction : build().transaction;
+    }
+
+    /**
+     * Take a ready transaction out of the pool as the serialized {@link com.hedera.hashgraph.sdk.proto.Transaction}
+     * for one node, ready to be submitted to that node as it is.
+     * <p>
+     * The other nodes' transactions of the same transaction are discarded; the transaction ID is only used once.
+     *
+     * @param nodeAccountId             the node the transaction is submitted to, one of the template's nodes
+     * @return                          the transaction bytes, or null when the pool is empty or closed
+     * @throws IllegalArgumentException if the template has no transaction for the node
+     */
+    @Nullable
+    public byte[] pollBytes(AccountId nodeAccountId) {
+        var index = template.getNodeAccountIds().indexOf(nodeAccountId);
+        if (index < 0) {
+            throw new IllegalArgumentException("the transactions of the pool are not for node " + nodeAccountId);
+        }
+
+        @Nullable
+        var transaction = poll();
+        return transaction != null ? transaction.outerTransactions.get(index).toByteArray() : null;
+    }
+
+    /**
+     * Stop filling the pool and drop its transactions.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        while (ready.pollFirst() != null) {
+            depthChanged(depth.decrementAndGet());
+        }
+    }
+
+    private Entry<T> build() {
+        var transactionId = client.getTransactionIdGenerator().generate(payerAccountId, 1);
+        var transaction = template.newTransaction(transactionId);
+
+        if (payerAccountId.equals(client.getOperatorAccountId())) {
+            transaction.signWithOperator(client);
+        }
+
+        transaction.buildAllTransactions();
+
+        var validStart = Objects.requireNonNull(transactionId.validStart);
+        var expiresAt = validStart.plus(template.getTransactionValidDuration()).minus(expiryMargin).toEpochMilli();
+
+        return new Entry<>(transaction, expiresAt);
+    }
+
+    private void scheduleRefill() {
+        if (closed || depth.get() >= targetDepth || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            client.executor.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+            logger.debug("transaction pool of {} could not be refilled: {}", payerAccountId, e.getMessage());
+        }
+    }
+
+    void refill() {
+        @Var var failed = false;
+
+        try {
+            dropExpired(System.currentTimeMillis());
+
+            while (!closed && depth.get() < targetDepth) {
+                var entry = build();
+
+                if (entry.expiresAt <= System.currentTimeMillis()) {
+                    // Another try would be just as expired; the expiry margin leaves no time
+                    logger.warn("transaction pool of {} builds transactions which are already expired", payerAccountId);
+                    failed = true;
+                    break;
+                }
+
+                ready.addLast(entry);
+                depthChanged(depth.incrementAndGet());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("transaction pool of {} failed to build a transaction", payerAccountId, e);
+            failed = true;
+        } finally {
+            refilling.set(false);
+        }
+
+        if (closed) {
+            close();
+            return;
+        }
+
+        // A transaction may have been taken between the last check and the end of the refill
+        if (!failed) {
+            scheduleRefill();
+        }
+
+        scheduleExpiry();
+    }
+
+    /**
+     * Drop the ready transactions which are expired at a given time.
+     *
+     * @param now                       the time in milliseconds since the epoch
+     */
+    void dropExpired(long now) {
+        @Var var dropped = 0;
+
+        @Nullable
+        @Var
+        var entry = ready.peekFirst();
+        while (entry != null && entry.expiresAt <= now) {
+            // A concurrent poll may have taken the entry already
+            if (ready.removeFirstOccurrence(entry)) {
+                dropped++;
+                depthChanged(depth.decrementAndGet());
+            }
+
+            entry = ready.peekFirst();
+        }
+
+        if (dropped > 0) {
+            logger.debug("transaction pool of {} dropped {} expired transactions", payerAccountId, dropped);
+        }
+    }
+
+    private synchronized void scheduleExpiry() {
+        @Nullable
+        var oldest = ready.peekFirst();
+        if (expiryScheduled || closed || oldest == null) {
+            return;
+        }
+
+        expiryScheduled = true;
+
+        var delay = Math.max(0, oldest.expiresAt - System.currentTimeMillis());
+        try {
+            CompletableFuture.runAsync(
+                this::onExpiry,
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, client.executor)
+            );
+        } catch (RejectedExecutionException e) {
+            expiryScheduled = false;
+        }
+    }
+
+    private void onExpiry() {
+        synchronized (this) {
+            expiryScheduled = false;
+        }
+
+        dropExpired(System.currentTimeMillis());
+
+        // The refill schedules the next expiry once the pool is full again
+        if (depth.get() < targetDepth) {
+            scheduleRefill();
+        } else {
+            scheduleExpiry();
+        }
+    }
+
+    private void depthChanged(int depth) {
+        client.getMetrics().onTransactionPoolDepthChanged(payerAccountId, depth, targetDepth);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("template", template)
+            .add("payerAccountId", payerAccountId)
+            .add("depth", depth.get())
+            .add("targetDepth", targetDepth)
+            .toString();
+    }
+
+    private static final class Entry<T> {
+        private final T transaction;
+
+        // When the transaction is dropped, in milliseconds since the epoch
+        private final long expiresAt;
+
+        Entry(T transaction, long expiresAt) {
+            this.transaction = transaction;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -97,10 +97,7 @@ public final class TransactionResponse implements WithGetReceipt, WithGetRecord
 
     @Override
     public CompletableFuture<TransactionReceipt> getReceiptAsync(Client client) {
-        return new TransactionReceiptQuery()
-            .setTransactionId(transactionId)
-            .setNodeAccountIds(Collections.singletonList(nodeId))
-            .executeAsync(client);
+        return client.receiptTracker.track(transactionId, nodeId);
     }
 
     /**
@@ -0,0 +1,230 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.threeten.bp.Duration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stamps out copies of a frozen transaction which differ only in their transaction ID, and optionally their memo,
+ * without freezing each copy.
+ * <p>
+ * The template serializes the parts of the body which all copies share once. A protobuf message is serialized field
+ * by field in field number order, and the transaction ID and memo are top-level fields of the body, so the body of a
+ * copy is the newly serialized transaction ID (and memo) spliced between the shared parts. The result is byte for byte
+ * the body a full {@link Transaction#freezeWith(Client)} would have produced.
+ * <p>
+ * Copies are frozen, signed by the template's signers when they are built, and ready to be signed further or executed.
+ * A template is immutable and can be used from several threads at once.
+ *
+ * <pre>{@code
+ * var template = TransactionTemplate.from(new TransferTransaction()
+ *     .addHbarTransfer(payer, amount.negated())
+ *     .addHbarTransfer(payee, amount)
+ *     .freezeWith(client));
+ *
+ * for (var i = 0; i < count; i++) {
+ *     template.newTransaction(TransactionId.generate(payer)).execute(client);
+ * }
+ * }</pre>
+ *
+ * @param <T>                           the type of transaction
+ */
+public final class TransactionTemplate<T extends Transaction<T>> {
+    // The template's transaction, which copies are made from and which is never executed or signed itself
+    private final T prototype;
+
+    private final TransactionBody body;
+
+    // The body of each node, from the node account ID (field 2) up to the transaction fee (field 3)
+    private final List<ByteString> nodeParts;
+
+    // The transaction fee, valid duration and record flag (fields 3 to 5)
+    private final ByteString headerPart;
+
+    // The operation itself (fields 7 and up)
+    private final ByteString dataPart;
+
+    // What follows the transaction ID in the body of each node with the template's memo
+    private final List<ByteString> defaultTails;
+
+    private TransactionTemplate(T transaction) {
+        body = Objects.requireNonNull(transaction.frozenBodyBuilder).build();
+
+        var nodeAccountIds = transaction.nodeAccountIds;
+        nodeParts = new ArrayList<>(nodeAccountIds.size());
+        for (var nodeAccountId : nodeAccountIds) {
+            nodeParts.add(TransactionBody.newBuilder().setNodeAccountID(nodeAccountId.toProtobuf()).build().toByteString());
+        }
+
+        headerPart = TransactionBody.newBuilder()
+            .setTransactionFee(body.getTransactionFee())
+            .setTransactionValidDuration(body.getTransactionValidDuration())
+            .setGenerateRecord(body.getGenerateRecord())
+            .build()
+            .toByteString();
+
+        dataPart = body.toBuilder()
+            .clearTransactionID()
+            .clearNodeAccountID()
+            .clearTransactionFee()
+            .clearTransactionValidDuration()
+            .clearGenerateRecord()
+            .clearMemo()
+            .build()
+            .toByteString();
+
+        defaultTails = buildTails(body.getMemo());
+
+        var transactionId = transaction.transactionIds.get(0);
+        prototype = transaction.copyWithBodies(transactionId, body.getMemo(), body.toBuilder(), stamp(transactionId, defaultTails));
+    }
+
+    /**
+     * Create a template from a frozen transaction.
+     * <p>
+     * The template keeps its own copy of the transaction, which may still be executed or changed afterwards without
+     * affecting the template. Chunked transactions, whose bodies differ per chunk, cannot be templates.
+     *
+     * @param transaction               the frozen transaction
+     * @param <T>                       the type of transaction
+     * @return                          the template
+     */
+    public static <T extends Transaction<T>> TransactionTemplate<T> from(T transaction) {
+        if (!transaction.isFrozen()) {
+            throw new IllegalStateException("transaction must be frozen to be used as a template");
+        }
+
+        if (transaction instanceof ChunkedTransaction || transaction.transactionIds.size() != 1) {
+            throw new IllegalArgumentException("a chunked transaction cannot be used as a template");
+        }
+
+        return new TransactionTemplate<>(transaction);
+    }
+
+    /**
+     * Create a frozen copy of the template's transaction with another transaction ID.
+     *
+     * @param transactionId             the transaction ID of the copy
+     * @return                          the copy
+     */
+    public T newTransaction(TransactionId transactionId) {
+        return prototype.copyWithBodies(
+            transactionId,
+            body.getMemo(),
+            body.toBuilder().setTransactionID(transactionId.toProtobuf()),
+            stamp(transactionId, defaultTails)
+        );
+    }
+
+    /**
+     * Create a frozen copy of the template's transaction with another transaction ID and memo.
+     *
+     * @param transactionId             the transaction ID of the copy
+     * @param memo                      the memo of the copy
+     * @return                          the copy
+     */
+    public T newTransaction(TransactionId transactionId, String memo) {
+        Objects.requireNonNull(memo);
+
+        var tails = memo.equals(body.getMemo()) ? defaultTails : buildTails(memo);
+        return prototype.copyWithBodies(
+            transactionId,
+            memo,
+            body.toBuilder().setTransactionID(transactionId.toProtobuf()).setMemo(memo),
+            stamp(transactionId, tails)
+        );
+    }
+
+    /**
+     * Extract the number of nodes each copy has a body for.
+     *
+     * @return                          the number of nodes
+     */
+    public int getNodeCount() {
+        return nodeParts.size();
+    }
+
+    /**
+     * Extract the nodes each copy has a transaction for, in the order of its transactions.
+     *
+     * @return                          the node account IDs
+     */
+    List<AccountId> getNodeAccountIds() {
+        return Collections.unmodifiableList(prototype.nodeAccountIds.getList());
+    }
+
+    /**
+     * Extract the account which pays for the template's transaction.
+     *
+     * @return                          the payer account ID
+     */
+    AccountId getPayerAccountId() {
+        return AccountId.fromProtobuf(body.getTransactionID().getAccountID());
+    }
+
+    /**
+     * Extract how long a copy stays valid after its valid start.
+     *
+     * @return                          the transaction valid duration
+     */
+    Duration getTransactionValidDuration() {
+        return DurationConverter.fromProtobuf(body.getTransactionValidDuration());
+    }
+
+    private List<ByteString> buildTails(String memo) {
+        var memoPart = TransactionBody.newBuilder().setMemo(memo).build().toByteString();
+        var sharedTail = headerPart.concat(memoPart).concat(dataPart);
+
+        var tails = new ArrayList<ByteString>(nodeParts.size());
+        for (var nodePart : nodeParts) {
+            tails.add(nodePart.concat(sharedTail));
+        }
+
+        return Collections.unmodifiableList(tails);
+    }
+
+    private static List<ByteString> stamp(TransactionId transactionId, List<ByteString> tails) {
+        var idPart = TransactionBody.newBuilder().setTransactionID(transactionId.toProtobuf()).build().toByteString();
+
+        var bodies = new ArrayList<ByteString>(tails.size());
+        for (var tail : tails) {
+            bodies.add(idPart.concat(tail));
+        }
+
+        return bodies;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("type", body.getDataCase())
+            .add("nodes", nodeParts.size())
+            .add("memo", body.getMemo())
+            .toString();
+    }
+}
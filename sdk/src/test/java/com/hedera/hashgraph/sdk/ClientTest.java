@@ -19,6 +19,8 @@
  */
 package com.hedera.hashgraph.sdk;
 
+import io.grpc.inprocess.InProcessServerBuilder;
+import java8.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,6 +38,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -296,4 +300,105 @@ class ClientTest {
         // 20 seconds would indicate we tried 2 times to connect
         assertThat(secondsTaken).isLessThan(20);
     }
+
+    @Test
+    @DisplayName("Client.warmUp() connects reachable nodes and backs off the rest")
+    void warmUpBacksOffUnreachableNodes() throws Exception {
+        var server = InProcessServerBuilder.forName("warmUp").directExecutor().build().start();
+
+        var client = Client.forNetwork(Map.of(
+            "in-process:warmUp", AccountId.fromString("0.0.3"),
+            "127.0.0.1:1", AccountId.fromString("0.0.4")
+        ));
+
+        assertThat(client.warmUp(Duration.ofSeconds(1))).isEqualTo(1);
+        assertThat(client.network.healthyNodes)
+            .extracting(Node::getAccountId)
+            .containsExactly(AccountId.fromString("0.0.3"));
+
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Client.forNetwork() runs on a supplied executor")
+    void forNetworkWithExecutor() throws Exception {
+        var executor = Executors.newScheduledThreadPool(1);
+        var client = Client.forNetwork(Map.of("127.0.0.1:50211", AccountId.fromString("0.0.3")), executor);
+
+        assertThat(client.executor).isSameAs(executor);
+
+        // Delays are scheduled on the supplied scheduler
+        Delayer.delayFor(10, client.executor).get(1, TimeUnit.SECONDS);
+
+        client.close();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Client.createVirtualThreadExecutor() falls back to a working executor")
+    void createVirtualThreadExecutor() throws Exception {
+        var executor = Client.createVirtualThreadExecutor();
+
+        assertThat(executor.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue();
+
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("The network updater reconciles the network with the address book")
+    void networkUpdaterRefreshesFromAddressBook() throws Exception {
+        var client = Client.forNetwork(Map.of("10.0.0.3:50211", AccountId.fromString("0.0.3")));
+
+        var ip = new IPv4Address()
+            .setNetwork(new IPv4AddressPart().setLeft((byte) 10).setRight((byte) 0))
+            .setHost(new IPv4AddressPart().setLeft((byte) 0).setRight((byte) 4));
+        var addressBook = new NodeAddressBook().setNodeAddresses(List.of(new NodeAddress()
+            .setAccountId(AccountId.fromString("0.0.4"))
+            .setAddresses(List.of(new Endpoint().setAddress(ip).setPort(50211)))));
+
+        // A local stand-in for the mirror network
+        client.networkUpdater.setAddressBookSource(c -> CompletableFuture.completedFuture(addressBook));
+        client.networkUpdater.refresh().get(1, TimeUnit.SECONDS);
+
+        assertThat(client.getNetwork()).isEqualTo(Map.of("10.0.0.4:50211", AccountId.fromString("0.0.4")));
+
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Health probes are no longer scheduled once the executor rejects them")
+    void healthProberStopsWhenExecutorRejects() throws Exception {
+        var executor = Client.createExecutor();
+        var client = Client.forNetwork(Map.of("10.0.0.3:50211", AccountId.fromString("0.0.3")), executor);
+        executor.shutdownNow();
+
+        client.setHealthProbeInterval(Duration.ofMillis(10));
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.healthProber.isTickScheduled()) {
+            assertThat(System.nanoTime()).as("tick still scheduled").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Network updates are no longer scheduled once the executor rejects them")
+    void networkUpdaterStopsWhenExecutorRejects() throws Exception {
+        var executor = Client.createExecutor();
+        var client = Client.forNetwork(Map.of("10.0.0.3:50211", AccountId.fromString("0.0.3")), executor);
+        executor.shutdownNow();
+
+        client.setNetworkUpdatePeriod(Duration.ofMillis(10));
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.networkUpdater.isRefreshScheduled()) {
+            assertThat(System.nanoTime()).as("refresh still scheduled").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+
+        client.close();
+    }
 }
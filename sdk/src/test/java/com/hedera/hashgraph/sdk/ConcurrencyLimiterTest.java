@@ -0,0 +1,93 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+    @Test
+    void queuesCallsOverTheLimit() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (var i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            Assertions.assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        Assertions.assertThat(limiter.tryAcquire()).isFalse();
+
+        var waiter = limiter.acquireAsync();
+        Assertions.assertThat(waiter).isNotDone();
+        Assertions.assertThat(limiter.getWaiting()).isEqualTo(1);
+
+        limiter.release(ConcurrencyLimiter.Outcome.IGNORED);
+
+        Assertions.assertThat(waiter).isDone();
+        Assertions.assertThat(limiter.getInFlight()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT);
+        Assertions.assertThat(limiter.getWaiting()).isEqualTo(0);
+    }
+
+    @Test
+    void halvesLimitOncePerBurstOfOverload() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (var i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        for (var i = 0; i < 4; i++) {
+            limiter.release(ConcurrencyLimiter.Outcome.OVERLOADED);
+        }
+
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT / 2);
+        Assertions.assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void growsLimitByAboutOnePerWindowOfSuccesses() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (var i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT + 1; i++) {
+            limiter.tryAcquire();
+            limiter.release(ConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT + 1);
+    }
+
+    @Test
+    void skipsCancelledWaiters() {
+        var limiter = new ConcurrencyLimiter();
+
+        for (var i = 0; i < ConcurrencyLimiter.INITIAL_LIMIT; i++) {
+            limiter.tryAcquire();
+        }
+
+        var cancelled = limiter.acquireAsync();
+        var waiter = limiter.acquireAsync();
+        cancelled.cancel(true);
+
+        limiter.release(ConcurrencyLimiter.Outcome.IGNORED);
+
+        Assertions.assertThat(waiter).isDone();
+        Assertions.assertThat(limiter.getInFlight()).isEqualTo(ConcurrencyLimiter.INITIAL_LIMIT);
+        Assertions.assertThat(limiter.getWaiting()).isEqualTo(0);
+    }
+}
@@ -33,10 +33,12 @@ import org.threeten.bp.Duration;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -56,6 +58,7 @@ class ExecutableTest {
         client = Client.forMainnet();
         network = mock(Network.class);
         client.network = network;
+        when(network.getMetrics()).thenReturn(ClientMetrics.NOOP);
 
         node3 = mock(Node.class);
         node4 = mock(Node.class);
@@ -68,6 +71,11 @@ class ExecutableTest {
         when(network.getNode(new AccountId(4))).thenReturn(node4);
         when(network.getNode(new AccountId(5))).thenReturn(node5);
 
+        // Nodes connect successfully unless a test says otherwise
+        when(node3.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
+        when(node4.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
+        when(node5.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
+
         nodeAccountIds = Arrays.asList(
             new AccountId(3),
             new AccountId(4),
@@ -233,7 +241,7 @@ class ExecutableTest {
                 .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
                 .build();
 
-        tx.blockingUnaryCall = (grpcRequest) -> txResp;
+        tx.futureUnaryCall = (grpcRequest) -> CompletableFuture.completedFuture(txResp);
         com.hedera.hashgraph.sdk.TransactionResponse resp = (com.hedera.hashgraph.sdk.TransactionResponse) tx.execute(client);
 
         assertThat(resp.nodeId).isEqualTo(new AccountId(3));
@@ -244,8 +252,8 @@ class ExecutableTest {
         when(node3.isHealthy()).thenReturn(true);
         when(node4.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect()).thenReturn(true);
-        when(node4.channelFailedToConnect()).thenReturn(false);
+        when(node3.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        when(node4.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
 
         var now = org.threeten.bp.Instant.now();
         var tx = new DummyTransaction() {
@@ -273,11 +281,11 @@ class ExecutableTest {
                 .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
                 .build();
 
-        tx.blockingUnaryCall = (grpcRequest) -> txResp;
+        tx.futureUnaryCall = (grpcRequest) -> CompletableFuture.completedFuture(txResp);
         com.hedera.hashgraph.sdk.TransactionResponse resp = (com.hedera.hashgraph.sdk.TransactionResponse) tx.execute(client);
 
-        verify(node3).channelFailedToConnect();
-        verify(node4).channelFailedToConnect();
+        verify(node3).channelFailedToConnectAsync();
+        verify(node4).channelFailedToConnectAsync();
         assertThat(resp.nodeId).isEqualTo(new AccountId(4));
     }
 
@@ -293,9 +301,9 @@ class ExecutableTest {
         when(node4.isHealthy()).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
         when(node5.isHealthy()).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
 
-        when(node3.channelFailedToConnect()).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
-        when(node4.channelFailedToConnect()).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
-        when(node5.channelFailedToConnect()).thenAnswer((Answer<Boolean>) inv -> i.getAndIncrement() == 0);
+        when(node3.channelFailedToConnectAsync()).thenAnswer((Answer<CompletableFuture<Boolean>>) inv -> CompletableFuture.completedFuture(i.get() == 0));
+        when(node4.channelFailedToConnectAsync()).thenAnswer((Answer<CompletableFuture<Boolean>>) inv -> CompletableFuture.completedFuture(i.get() == 0));
+        when(node5.channelFailedToConnectAsync()).thenAnswer((Answer<CompletableFuture<Boolean>>) inv -> CompletableFuture.completedFuture(i.getAndIncrement() == 0));
 
         when(node3.getRemainingTimeForBackoff()).thenReturn(500L);
         when(node4.getRemainingTimeForBackoff()).thenReturn(600L);
@@ -327,12 +335,12 @@ class ExecutableTest {
                 .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
                 .build();
 
-        tx.blockingUnaryCall = (grpcRequest) -> txResp;
+        tx.futureUnaryCall = (grpcRequest) -> CompletableFuture.completedFuture(txResp);
         com.hedera.hashgraph.sdk.TransactionResponse resp = (com.hedera.hashgraph.sdk.TransactionResponse) tx.execute(client);
 
-        verify(node3, times(2)).channelFailedToConnect();
-        verify(node4).channelFailedToConnect();
-        verify(node5).channelFailedToConnect();
+        verify(node3, times(2)).channelFailedToConnectAsync();
+        verify(node4).channelFailedToConnectAsync();
+        verify(node5).channelFailedToConnectAsync();
         assertThat(resp.nodeId).isEqualTo(new AccountId(3));
     }
 
@@ -344,9 +352,9 @@ class ExecutableTest {
         when(node4.isHealthy()).thenReturn(true);
         when(node5.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect()).thenReturn(true);
-        when(node4.channelFailedToConnect()).thenReturn(true);
-        when(node5.channelFailedToConnect()).thenReturn(true);
+        when(node3.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        when(node4.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(true));
+        when(node5.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(true));
 
         var tx = new DummyTransaction();
         var nodeAccountIds = Arrays.asList(
@@ -358,6 +366,99 @@ class ExecutableTest {
         assertThatExceptionOfType(MaxAttemptsExceededException.class).isThrownBy(() -> tx.execute(client));
     }
 
+    @Test
+    void executeTimeoutCapsDeadlineAndCancelsCall() {
+        when(node3.isHealthy()).thenReturn(true);
+
+        var tx = new DummyTransaction<TransferTransaction>();
+        tx.setNodeAccountIds(Collections.singletonList(new AccountId(3)));
+        tx.setGrpcDeadline(Duration.ofSeconds(10));
+
+        var call = new CompletableFuture<com.hedera.hashgraph.sdk.proto.TransactionResponse>();
+        var deadlineMillis = new AtomicLong();
+        tx.futureUnaryCall = (grpcRequest) -> {
+            deadlineMillis.set(grpcRequest.getCallOptions().getDeadline().timeRemaining(TimeUnit.MILLISECONDS));
+            return call;
+        };
+
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> tx.execute(client, Duration.ofMillis(200)));
+
+        // The attempt's deadline is the remaining request budget, not the longer gRPC deadline
+        assertThat(deadlineMillis.get()).isLessThanOrEqualTo(200);
+        assertThat(call).isCancelled();
+    }
+
+    @Test
+    void overlappingExecutionsKeepTheirOwnDeadlines() {
+        when(node3.isHealthy()).thenReturn(true);
+
+        var tx = new DummyTransaction<TransferTransaction>() {
+            @Override
+            CompletableFuture<Void> onExecuteAsync(Client client) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        tx.setNodeAccountIds(Collections.singletonList(new AccountId(3)));
+
+        var calls = new AtomicInteger();
+        var firstCall = new CompletableFuture<com.hedera.hashgraph.sdk.proto.TransactionResponse>();
+        var firstDeadlineMillis = new AtomicLong();
+        tx.futureUnaryCall = (grpcRequest) -> {
+            if (calls.getAndIncrement() > 0) {
+                return new CompletableFuture<>();
+            }
+
+            // Read once the second execution has started with its much shorter timeout
+            return firstCall.whenComplete((response, error) -> firstDeadlineMillis.set(
+                grpcRequest.getCallOptions().getDeadline().timeRemaining(TimeUnit.MILLISECONDS)));
+        };
+
+        var first = tx.executeAsync(client);
+        assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> tx.execute(client, Duration.ofMillis(200)));
+        firstCall.cancel(true);
+
+        // The first execution still runs against the client's request timeout
+        assertThat(firstDeadlineMillis.get()).isGreaterThan(1000);
+
+        first.cancel(true);
+    }
+
+    @Test
+    void hedgeWithoutAnotherHealthyNodeIsNotSent() throws PrecheckStatusException, TimeoutException {
+        when(node3.isHealthy()).thenReturn(true);
+
+        var policy = HedgingPolicy.afterDelay(Duration.ofMillis(20)).setMaxExtraLoad(1);
+        client.setHedgingPolicy(policy);
+
+        var tx = new DummyTransaction() {
+            @Override
+            boolean isHedgeable() {
+                return true;
+            }
+        };
+        tx.setNodeAccountIds(nodeAccountIds);
+
+        var txResp =
+            com.hedera.hashgraph.sdk.proto.TransactionResponse
+                .newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .build();
+
+        var calls = new AtomicInteger();
+        tx.futureUnaryCall = (grpcRequest) -> {
+            calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> txResp, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+        };
+
+        tx.execute(client);
+
+        // Nodes 4 and 5 are unhealthy, so the hedge would go to node 3 again; it is dropped without using the budget
+        // or moving the node index on
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(tx.attemptedAllNodes).isFalse();
+        assertThat(policy.tryAcquireHedge()).isTrue();
+    }
+
     @Test
     void executeRetriableErrorDuringCall() {
         AtomicInteger i = new AtomicInteger();
@@ -365,8 +466,8 @@ class ExecutableTest {
         when(node3.isHealthy()).thenReturn(true);
         when(node4.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect()).thenReturn(false);
-        when(node4.channelFailedToConnect()).thenReturn(false);
+        when(node3.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
+        when(node4.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
 
         var tx = new DummyTransaction();
         var nodeAccountIds = Arrays.asList(
@@ -382,17 +483,19 @@ class ExecutableTest {
                 .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
                 .build();
 
-        tx.blockingUnaryCall = (grpcRequest) -> {
+        tx.futureUnaryCall = (grpcRequest) -> {
             if (i.getAndIncrement() == 0)
-                throw new StatusRuntimeException(io.grpc.Status.UNAVAILABLE);
+                return CompletableFuture.failedFuture(new StatusRuntimeException(io.grpc.Status.UNAVAILABLE));
             else
-                throw new StatusRuntimeException(io.grpc.Status.ABORTED);
+                return CompletableFuture.failedFuture(new StatusRuntimeException(io.grpc.Status.ABORTED));
         };
 
-        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> tx.execute(client));
+        assertThatExceptionOfType(RuntimeException.class)
+            .isThrownBy(() -> tx.execute(client))
+            .withCauseInstanceOf(StatusRuntimeException.class);
 
-        verify(node3).channelFailedToConnect();
-        verify(node4).channelFailedToConnect();
+        verify(node3).channelFailedToConnectAsync();
+        verify(node4).channelFailedToConnectAsync();
     }
 
     @Test
@@ -400,8 +503,8 @@ class ExecutableTest {
         when(node3.isHealthy()).thenReturn(true);
         when(node4.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect()).thenReturn(false);
-        when(node4.channelFailedToConnect()).thenReturn(false);
+        when(node3.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
+        when(node4.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
 
         AtomicInteger i = new AtomicInteger();
         var tx = new DummyQuery() {
@@ -430,18 +533,18 @@ class ExecutableTest {
             .build();
 
         var resp = Response.newBuilder().setTransactionGetReceipt(receiptResp).build();
-        tx.blockingUnaryCall = (grpcRequest) -> resp;
+        tx.futureUnaryCall = (grpcRequest) -> CompletableFuture.completedFuture(resp);
         TransactionReceipt rcp = (TransactionReceipt) tx.execute(client);
 
-        verify(node3).channelFailedToConnect();
-        verify(node4).channelFailedToConnect();
+        verify(node3).channelFailedToConnectAsync();
+        verify(node4).channelFailedToConnectAsync();
     }
 
 
     @Test
     void executeUserError() throws PrecheckStatusException, TimeoutException {
         when(node3.isHealthy()).thenReturn(true);
-        when(node3.channelFailedToConnect()).thenReturn(false);
+        when(node3.channelFailedToConnectAsync()).thenReturn(CompletableFuture.completedFuture(false));
 
         var tx = new DummyTransaction() {
             @Override
@@ -462,10 +565,10 @@ class ExecutableTest {
                 .setNodeTransactionPrecheckCode(ResponseCodeEnum.ACCOUNT_DELETED)
                 .build();
 
-        tx.blockingUnaryCall = (grpcRequest) -> txResp;
+        tx.futureUnaryCall = (grpcRequest) -> CompletableFuture.completedFuture(txResp);
         assertThatExceptionOfType(PrecheckStatusException.class).isThrownBy(() -> tx.execute(client));
 
-        verify(node3).channelFailedToConnect();
+        verify(node3).channelFailedToConnectAsync();
     }
 
     @Test
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -136,6 +137,22 @@ public class FileAppendTransactionTest {
             .sign(unusedPrivateKey);
     }
 
+    @Test
+    void shouldOnlyBuildBodiesWhichAreUsed() {
+        var nodeAccountIds = new ArrayList<AccountId>();
+        nodeAccountIds.add(AccountId.fromString("0.0.444"));
+        nodeAccountIds.add(AccountId.fromString("0.0.555"));
+
+        var tx = spawnTestTransactionBigContents(nodeAccountIds);
+        assertThat(tx.innerSignedTransactions).containsOnlyNulls();
+
+        tx.makeRequest();
+        assertThat(tx.innerSignedTransactions.stream().filter(Objects::nonNull).count()).isEqualTo(1);
+
+        tx.toBytes();
+        assertThat(tx.innerSignedTransactions).doesNotContainNull();
+    }
+
     String hashesToString(List<Map<AccountId, byte[]>> hashes) {
         var outString = new StringBuilder();
         outString.append("[");
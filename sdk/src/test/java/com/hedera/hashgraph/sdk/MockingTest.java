@@ -34,8 +34,11 @@ import com.hedera.hashgraph.sdk.proto.Transaction;
 import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
 import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
 import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Context;
 import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
+import java8.util.concurrent.CompletableFuture;
 import java8.util.function.Function;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
@@ -44,13 +47,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MockingTest {
     @Test
@@ -481,6 +489,231 @@ public class MockingTest {
         Assertions.assertEquals(2, service.buffer.queryRequestsReceived.size());
     }
 
+    @Test
+    @DisplayName("Client.executeAll() returns responses in input order")
+    void executeAllReturnsResponsesInInputOrder() throws Exception {
+        var inFlight = new AtomicInteger();
+        var peakInFlight = new AtomicInteger();
+        var service = new TestCryptoService() {
+            @Override
+            public void createAccount(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+                // Answer later, so the calls let through by the window overlap
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> {
+                    inFlight.decrementAndGet();
+                    super.createAccount(request, responseObserver);
+                });
+            }
+        };
+        var server = new TestServer("executeAll", service);
+
+        server.client.setMaxInFlightTransactionsPerNode(2);
+
+        var transactions = new ArrayList<AccountCreateTransaction>();
+        for (var i = 0; i < 5; i++) {
+            service.buffer.enqueueResponse(TestResponse.transactionOk());
+            transactions.add(new AccountCreateTransaction());
+        }
+
+        var responses = server.client.executeAll(transactions);
+
+        Assertions.assertEquals(5, responses.size());
+        Assertions.assertEquals(5, service.buffer.transactionRequestsReceived.size());
+        for (var i = 0; i < transactions.size(); i++) {
+            Assertions.assertEquals(transactions.get(i).getTransactionId(), responses.get(i).transactionId);
+        }
+
+        // The only node never had more than its window of transactions in flight
+        Assertions.assertTrue(peakInFlight.get() <= 2, "peak in flight was " + peakInFlight.get());
+
+        server.close();
+    }
+
+    @Test
+    @DisplayName("getReceiptAsync() completes every waiter on a transaction ID from one shared poll")
+    void getReceiptAsyncSharesPollsPerTransactionId() throws Exception {
+        var service = new TestCryptoService();
+        var server = new TestServer("getReceiptAsyncSharesPolls", service);
+
+        var noReceiptResponse = TestResponse.query(
+            Response.newBuilder()
+                .setTransactionGetReceipt(
+                    TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(
+                            ResponseHeader.newBuilder()
+                                .setNodeTransactionPrecheckCode(com.hedera.hashgraph.sdk.Status.RECEIPT_NOT_FOUND.code)
+                        )
+                ).build()
+        );
+
+        service.buffer.enqueueResponse(noReceiptResponse);
+        service.buffer.enqueueResponse(TestResponse.successfulReceipt());
+
+        var transactionId = TransactionId.generate(AccountId.fromString("0.0.1999"));
+        var first = transactionId.getReceiptAsync(server.client);
+        var second = transactionId.getReceiptAsync(server.client);
+
+        Assertions.assertEquals(com.hedera.hashgraph.sdk.Status.SUCCESS, first.get().status);
+        Assertions.assertEquals(com.hedera.hashgraph.sdk.Status.SUCCESS, second.get().status);
+        Assertions.assertEquals(2, service.buffer.queryRequestsReceived.size());
+        Assertions.assertEquals(0, server.client.receiptTracker.getPendingCount());
+        Assertions.assertTrue(server.client.receiptTracker.getConsensusLatencyMillis() > 0);
+
+        server.close();
+    }
+
+    @Test
+    @DisplayName("A node answering BUSY gets a lower concurrency limit")
+    void busyNodeLowersConcurrencyLimit() throws Exception {
+        var service = new TestCryptoService();
+        var server = new TestServer("busyNodeLowersConcurrencyLimit", service);
+
+        service.buffer.enqueueResponse(TestResponse.transaction(com.hedera.hashgraph.sdk.Status.BUSY));
+        service.buffer.enqueueResponse(TestResponse.transactionOk());
+
+        server.client.setAdaptiveConcurrency(true);
+
+        new AccountCreateTransaction().execute(server.client);
+
+        var limiter = server.client.network.getNode(AccountId.fromString("1.1.1")).getConcurrencyLimiter();
+        Assertions.assertEquals(ConcurrencyLimiter.INITIAL_LIMIT / 2, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Metrics see every call, its latency, status and retry")
+    void metricsRecordCallsAndRetries() throws Exception {
+        var service = new TestCryptoService();
+        var server = new TestServer("metricsRecordCallsAndRetries", service);
+
+        service.buffer.enqueueResponse(TestResponse.transaction(com.hedera.hashgraph.sdk.Status.BUSY));
+        service.buffer.enqueueResponse(TestResponse.transactionOk());
+
+        var attempts = new ArrayList<Integer>();
+        var statuses = new ArrayList<com.hedera.hashgraph.sdk.Status>();
+        var retries = new ArrayList<ExecutionState>();
+        var latencies = new ArrayList<Long>();
+        server.client.setMetrics(new ClientMetrics() {
+            @Override
+            public synchronized void onAttempt(AccountId nodeAccountId, RequestType requestType, int attempt) {
+                Assertions.assertEquals(RequestType.CRYPTO_CREATE, requestType);
+                attempts.add(attempt);
+            }
+
+            @Override
+            public synchronized void onResponse(
+                AccountId nodeAccountId,
+                RequestType requestType,
+                long latencyNanos,
+                @Nullable com.hedera.hashgraph.sdk.Status status,
+                Status.Code grpcCode
+            ) {
+                Assertions.assertEquals(Status.Code.OK, grpcCode);
+                statuses.add(status);
+                latencies.add(latencyNanos);
+            }
+
+            @Override
+            public synchronized void onRetry(AccountId nodeAccountId, RequestType requestType, ExecutionState reason, Status.Code grpcCode) {
+                retries.add(reason);
+            }
+        });
+
+        new AccountCreateTransaction().execute(server.client);
+
+        Assertions.assertEquals(Arrays.asList(1, 2), attempts);
+        Assertions.assertEquals(
+            Arrays.asList(com.hedera.hashgraph.sdk.Status.BUSY, com.hedera.hashgraph.sdk.Status.OK), statuses);
+        Assertions.assertEquals(1, retries.size());
+        Assertions.assertTrue(latencies.stream().allMatch(latency -> latency > 0));
+
+        server.close();
+    }
+
+    @Test
+    @DisplayName("A receipt tick polls one node at most a bounded number of times")
+    void receiptTickCapsPollsPerNode() throws Exception {
+        var polls = new AtomicInteger();
+        var service = new TestCryptoService() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> responseObserver) {
+                // Never answer, so every poll stays in flight and each tick only adds the polls it sent
+                polls.incrementAndGet();
+            }
+        };
+        var server = new TestServer("receiptTickCapsPollsPerNode", service);
+
+        var total = ReceiptTracker.MAX_POLLS_PER_NODE_PER_TICK + 10;
+        for (var i = 0; i < total; i++) {
+            var transactionId = TransactionId.withValidStart(
+                AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542, i));
+            server.client.receiptTracker.track(transactionId, AccountId.fromString("1.1.1"));
+        }
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (polls.get() < ReceiptTracker.MAX_POLLS_PER_NODE_PER_TICK && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // The first tick stopped at the cap, and the next one picks up the rest
+        Assertions.assertEquals(ReceiptTracker.MAX_POLLS_PER_NODE_PER_TICK, polls.get());
+
+        while (polls.get() < total && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        Assertions.assertEquals(total, polls.get());
+
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Free queries are hedged to a second node which answers first")
+    void freeQueryIsHedgedToSecondNode() throws Exception {
+        var cancelled = new CountDownLatch(1);
+        var slowService = new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoGetBalance(Query request, StreamObserver<Response> responseObserver) {
+                // Never answer; only observe the hedged call being cancelled
+                Context.current().addListener(context -> cancelled.countDown(), Runnable::run);
+            }
+        };
+        var slowServer = InProcessServerBuilder.forName("hedgeSlow")
+            .addService(slowService).directExecutor().build().start();
+
+        var fastService = new TestCryptoService();
+        var fastServer = new TestServer("hedgeFast", fastService);
+        fastService.buffer.enqueueResponse(TestResponse.query(
+            Response.newBuilder().setCryptogetAccountBalance(
+                CryptoGetAccountBalanceResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK).build())
+                    .setAccountID(AccountID.newBuilder().setAccountNum(10).build())
+                    .setBalance(100)
+            ).build()
+        ));
+
+        var network = new HashMap<String, AccountId>();
+        network.put("in-process:hedgeSlow", AccountId.fromString("0.0.3"));
+        network.put("in-process:hedgeFast", AccountId.fromString("0.0.4"));
+        var client = Client.forNetwork(network)
+            .setHedgingPolicy(HedgingPolicy.afterDelay(Duration.ofMillis(50)).setMaxExtraLoad(1));
+
+        var balance = new AccountBalanceQuery()
+            .setAccountId(new AccountId(10))
+            .setNodeAccountIds(Arrays.asList(AccountId.fromString("0.0.3"), AccountId.fromString("0.0.4")))
+            .execute(client, Duration.ofSeconds(5));
+
+        Assertions.assertEquals(new Hbar(100, HbarUnit.TINYBAR), balance.hbars);
+        Assertions.assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+
+        client.close();
+        fastServer.close();
+        slowServer.shutdownNow();
+    }
+
     private static class TestCryptoService extends CryptoServiceGrpc.CryptoServiceImplBase implements TestService {
         public Buffer buffer = new Buffer();
 
@@ -19,11 +19,22 @@
  */
 package com.hedera.hashgraph.sdk;
 
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class NetworkTest {
     @Test
@@ -67,4 +78,229 @@ public class NetworkTest {
         Collections.sort(network);
         Assertions.assertThat(network.toArray()).isEqualTo(new Node[]{node6, node4, node3, node5});
     }
+
+    @Test
+    void channelPoolPicksChannelWithFewestOutstandingCalls() throws InterruptedException {
+        var executor = Client.createExecutor();
+
+        var node = new Node(AccountId.fromString("0.0.3"), "localhost:50213", executor).setChannelPoolSize(2);
+
+        var first = node.getChannel();
+        Assertions.assertThat(node.getChannel()).isSameAs(first);
+
+        // Nothing listens on the address, so a wait-for-ready call stays outstanding until cancelled
+        var call = first.newCall(CryptoServiceGrpc.getCryptoGetBalanceMethod(), CallOptions.DEFAULT.withWaitForReady());
+        call.start(new ClientCall.Listener<>() {
+        }, new Metadata());
+
+        var second = node.getChannel();
+        Assertions.assertThat(second).isNotSameAs(first);
+
+        call.cancel("done", null);
+        node.close(Duration.ofSeconds(1));
+        executor.shutdownNow();
+    }
+
+    @Test
+    void readmitsNodeAfterBackoff() throws InterruptedException, TimeoutException {
+        var executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>();
+        addresses.put("localhost:50213", AccountId.fromString("0.0.3"));
+        addresses.put("localhost:50214", AccountId.fromString("0.0.4"));
+
+        var network = Network.forNetwork(executor, addresses);
+        network.setMinNodeBackoff(Duration.ofMillis(50));
+        network.setMinNodeReadmitTime(Duration.ZERO);
+
+        var node3 = network.getNode(AccountId.fromString("0.0.3"));
+        network.increaseBackoff(node3);
+
+        var selected = new HashSet<AccountId>();
+        for (var i = 0; i < 20; i++) {
+            selected.add(network.getNode(null).getAccountId());
+        }
+        Assertions.assertThat(selected).containsExactly(AccountId.fromString("0.0.4"));
+
+        Thread.sleep(100);
+        network.getNode(null);
+        Assertions.assertThat(network.healthyNodes).contains(node3);
+
+        network.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void readmitsNodeOnlyAfterProbeWhenProbing() throws InterruptedException, TimeoutException {
+        var executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>();
+        addresses.put("localhost:50213", AccountId.fromString("0.0.3"));
+        addresses.put("localhost:50214", AccountId.fromString("0.0.4"));
+
+        var network = Network.forNetwork(executor, addresses);
+        network.setMinNodeBackoff(Duration.ofMillis(50));
+        network.setMinNodeReadmitTime(Duration.ZERO);
+        network.setProbeBeforeReadmit(true);
+
+        var node3 = network.getNode(AccountId.fromString("0.0.3"));
+        network.increaseBackoff(node3);
+        Assertions.assertThat(network.getNodesDueForProbe()).isEmpty();
+
+        Thread.sleep(100);
+        network.getNode(null);
+
+        // The backoff ended, but the node stays out until a probe succeeds
+        Assertions.assertThat(network.healthyNodes).doesNotContain(node3);
+        Assertions.assertThat(node3.isHealthy()).isFalse();
+        Assertions.assertThat(network.getNodesDueForProbe()).containsExactly(node3);
+
+        network.readmitNode(node3);
+        Assertions.assertThat(network.healthyNodes).contains(node3);
+        Assertions.assertThat(node3.isHealthy()).isTrue();
+        Assertions.assertThat(network.getNodesDueForProbe()).isEmpty();
+
+        network.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void setNetworkKeepsMatchingNodesAndTheirBackoff() throws InterruptedException, TimeoutException {
+        var executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>();
+        addresses.put("localhost:50213", AccountId.fromString("0.0.3"));
+        addresses.put("localhost:50214", AccountId.fromString("0.0.4"));
+
+        var network = Network.forNetwork(executor, addresses);
+        var node3 = network.getNode(AccountId.fromString("0.0.3"));
+        var node4 = network.getNode(AccountId.fromString("0.0.4"));
+        network.increaseBackoff(node3);
+
+        var newAddresses = new HashMap<String, AccountId>();
+        newAddresses.put("localhost:50213", AccountId.fromString("0.0.3"));
+        newAddresses.put("127.0.0.1:50215", AccountId.fromString("0.0.5"));
+        network.setNetwork(newAddresses);
+
+        // The kept node is the same object, still backed off
+        Assertions.assertThat(network.getNode(AccountId.fromString("0.0.3"))).isSameAs(node3);
+        Assertions.assertThat(network.healthyNodes).doesNotContain(node3);
+        Assertions.assertThat(network.readmitQueue).containsExactly(node3);
+        Assertions.assertThat(network.nodes).doesNotContain(node4).hasSize(2);
+        Assertions.assertThat(network.getNetwork()).isEqualTo(newAddresses);
+
+        network.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void setNetworkKeepsEveryPortOfANode() throws InterruptedException, TimeoutException {
+        var executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>();
+        addresses.put("localhost:50211", AccountId.fromString("0.0.3"));
+
+        var network = Network.forNetwork(executor, addresses);
+        var node3 = network.getNode(AccountId.fromString("0.0.3"));
+
+        var newAddresses = new HashMap<String, AccountId>();
+        newAddresses.put("localhost:50211", AccountId.fromString("0.0.3"));
+        newAddresses.put("localhost:50212", AccountId.fromString("0.0.3"));
+        network.setNetwork(newAddresses);
+
+        // The same host on two ports is two nodes, and the node at the listed port is the one kept
+        Assertions.assertThat(network.nodes).hasSize(2).contains(node3);
+        Assertions.assertThat(network.getNetwork()).isEqualTo(newAddresses);
+
+        // A node which is only listed at another port is reused
+        var previousNodes = new ArrayList<>(network.nodes);
+        var movedAddresses = new HashMap<String, AccountId>();
+        movedAddresses.put("localhost:50213", AccountId.fromString("0.0.3"));
+        network.setNetwork(movedAddresses);
+
+        Assertions.assertThat(network.nodes).hasSize(1);
+        Assertions.assertThat(previousNodes).contains(network.nodes.get(0));
+
+        network.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getNodeByKeyWhileTheNetworkChanges() throws Exception {
+        var executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>();
+        addresses.put("localhost:50211", AccountId.fromString("0.0.3"));
+        addresses.put("127.0.0.1:50211", AccountId.fromString("0.0.3"));
+        addresses.put("localhost:50212", AccountId.fromString("0.0.4"));
+
+        var network = Network.forNetwork(executor, addresses);
+        var done = new AtomicBoolean();
+
+        var reader = executor.submit(() -> {
+            while (!done.get()) {
+                Assertions.assertThat(network.getNode(AccountId.fromString("0.0.3")).getAccountId())
+                    .isEqualTo(AccountId.fromString("0.0.3"));
+                Assertions.assertThat(network.getNode(AccountId.fromString("0.0.4")).getAccountId())
+                    .isEqualTo(AccountId.fromString("0.0.4"));
+            }
+            return null;
+        });
+
+        try {
+            for (var i = 0; i < 50; i++) {
+                network.setTransportSecurity(i % 2 == 0);
+            }
+        } finally {
+            done.set(true);
+        }
+
+        // Rethrows whatever the reader ran into
+        reader.get(10, TimeUnit.SECONDS);
+
+        network.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void setNetworkFromAddressBookReconcilesNodes() throws InterruptedException, TimeoutException {
+        var executor = Client.createExecutor();
+
+        var addresses = new HashMap<String, AccountId>();
+        addresses.put("10.0.0.3:50211", AccountId.fromString("0.0.3"));
+        addresses.put("10.0.0.4:50211", AccountId.fromString("0.0.4"));
+
+        var network = Network.forNetwork(executor, addresses);
+        var node3 = network.getNode(AccountId.fromString("0.0.3"));
+
+        var addressBook = new NodeAddressBook().setNodeAddresses(List.of(
+            spawnNodeAddress(3, 10, 0, 0, 3),
+            spawnNodeAddress(5, 10, 0, 0, 5)
+        ));
+        network.setNetworkFromAddressBook(addressBook);
+
+        Assertions.assertThat(network.getNode(AccountId.fromString("0.0.3"))).isSameAs(node3);
+        Assertions.assertThat(network.getNetwork()).containsOnlyKeys("10.0.0.3:50211", "10.0.0.5:50211");
+        Assertions.assertThat(network.addressBook).containsOnlyKeys(AccountId.fromString("0.0.3"), AccountId.fromString("0.0.5"));
+
+        // An empty address book leaves the network alone
+        network.setNetworkFromAddressBook(new NodeAddressBook());
+        Assertions.assertThat(network.nodes).hasSize(2);
+
+        network.close();
+        executor.shutdownNow();
+    }
+
+    private static NodeAddress spawnNodeAddress(long account, int a, int b, int c, int d) {
+        var ip = new IPv4Address()
+            .setNetwork(new IPv4AddressPart().setLeft((byte) a).setRight((byte) b))
+            .setHost(new IPv4AddressPart().setLeft((byte) c).setRight((byte) d));
+
+        return new NodeAddress()
+            .setAccountId(new AccountId(account))
+            .setAddresses(List.of(
+                new Endpoint().setAddress(ip).setPort(50211),
+                new Endpoint().setAddress(ip).setPort(50212)
+            ));
+    }
 }
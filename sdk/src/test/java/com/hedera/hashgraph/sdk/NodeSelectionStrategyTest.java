@@ -0,0 +1,164 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+
+public class NodeSelectionStrategyTest {
+    private ExecutorService executor;
+    private List<Node> nodes;
+
+    @BeforeEach
+    void setup() {
+        executor = Client.createExecutor();
+        nodes = new ArrayList<>();
+        nodes.add(new Node(AccountId.fromString("0.0.3"), "localhost:50213", executor));
+        nodes.add(new Node(AccountId.fromString("0.0.4"), "localhost:50214", executor));
+        nodes.add(new Node(AccountId.fromString("0.0.5"), "localhost:50215", executor));
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void randomSelectsFromNodes() {
+        var strategy = NodeSelectionStrategy.random();
+
+        for (var i = 0; i < 20; i++) {
+            Assertions.assertThat(nodes).contains(strategy.select(nodes));
+        }
+    }
+
+    @Test
+    void roundRobinCyclesThroughNodes() {
+        var strategy = NodeSelectionStrategy.roundRobin();
+
+        var selected = new ArrayList<Node>();
+        for (var i = 0; i < 6; i++) {
+            selected.add(strategy.select(nodes));
+        }
+
+        Assertions.assertThat(selected).containsExactly(
+            nodes.get(0), nodes.get(1), nodes.get(2), nodes.get(0), nodes.get(1), nodes.get(2));
+    }
+
+    @Test
+    void latencyAwareNeverPicksSlowestNode() {
+        var strategy = NodeSelectionStrategy.latencyAware();
+
+        nodes.get(0).recordResponse(0.1, true);
+        nodes.get(1).recordResponse(0.2, true);
+        nodes.get(2).recordResponse(1.0, true);
+
+        // Any pair of two distinct nodes contains a node faster than 0.0.5
+        var selected = new HashSet<Node>();
+        for (var i = 0; i < 100; i++) {
+            selected.add(strategy.select(nodes));
+        }
+
+        Assertions.assertThat(selected).doesNotContain(nodes.get(2));
+    }
+
+    @Test
+    void failuresIncreaseLatencyScore() {
+        var node = nodes.get(0);
+        node.recordResponse(0.1, true);
+        var healthyScore = node.getLatencyScore();
+
+        node.recordResponse(0.001, false);
+
+        Assertions.assertThat(node.getLatencyScore()).isGreaterThan(healthyScore);
+    }
+
+    private static Client spawnClient(NodeSelectionStrategy strategy) {
+        var network = new HashMap<String, AccountId>();
+        for (var i = 0; i < 9; i++) {
+            network.put("localhost:" + (50213 + i), new AccountId(3 + i));
+        }
+
+        // 9 nodes make 3 nodes per request
+        return Client.forNetwork(network).setNodeSelectionStrategy(strategy);
+    }
+
+    private static TransferTransaction spawnFrozenTransaction(Client client) {
+        return new TransferTransaction()
+            .setTransactionId(TransactionId.withValidStart(new AccountId(1001), Instant.ofEpochSecond(1554158542)))
+            .addHbarTransfer(new AccountId(1001), Hbar.fromTinybars(-1))
+            .addHbarTransfer(new AccountId(1002), Hbar.fromTinybars(1))
+            .freezeWith(client);
+    }
+
+    @Test
+    void executionFollowsTheStrategyOrder() throws TimeoutException {
+        // Prefers the node with the highest account number
+        var strategy = new NodeSelectionStrategy() {
+            @Override
+            <N extends ManagedNode<N, ?>> N select(List<N> nodes) {
+                return Collections.max(nodes, Comparator.comparingLong(node -> ((Node) node).getAccountId().num));
+            }
+        };
+
+        var client = spawnClient(strategy);
+        try {
+            var transaction = spawnFrozenTransaction(client);
+
+            Assertions.assertThat(transaction.getNodeAccountIds())
+                .containsExactly(new AccountId(11), new AccountId(10), new AccountId(9));
+
+            transaction.setNodesFromNodeAccountIds(client);
+            Assertions.assertThat(transaction.getNodeForExecute(1).getAccountId()).isEqualTo(new AccountId(11));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    void repeatedPicksStillFillTheRequest() throws TimeoutException {
+        // Always the same node, as a latency-aware strategy does when one node is far better than the others
+        var strategy = new NodeSelectionStrategy() {
+            @Override
+            <N extends ManagedNode<N, ?>> N select(List<N> nodes) {
+                return nodes.get(0);
+            }
+        };
+
+        var client = spawnClient(strategy);
+        try {
+            Assertions.assertThat(new HashSet<>(spawnFrozenTransaction(client).getNodeAccountIds())).hasSize(3);
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ReceiptTrackerTest {
+    private static final TransactionId transactionId =
+        TransactionId.withValidStart(AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542));
+
+    @Test
+    void closingTheClientFailsPendingReceipts() throws TimeoutException {
+        // Without nodes the receipt is never polled, so it stays pending until the client is closed
+        var client = Client.forNetwork(Map.of());
+        var receipt = client.receiptTracker.track(transactionId, null);
+
+        assertThat(client.receiptTracker.getPendingCount()).isEqualTo(1);
+
+        client.close();
+
+        assertThat(client.receiptTracker.getPendingCount()).isZero();
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> receipt.get(5, TimeUnit.SECONDS))
+            .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shutDownExecutorFailsPendingReceipts() throws TimeoutException {
+        var executor = Client.createExecutor();
+        var client = Client.forNetwork(Map.of(), executor);
+        executor.shutdownNow();
+
+        var receipt = client.receiptTracker.track(transactionId, null);
+
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> receipt.get(5, TimeUnit.SECONDS))
+            .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(client.receiptTracker.getPendingCount()).isZero();
+
+        client.close();
+    }
+}
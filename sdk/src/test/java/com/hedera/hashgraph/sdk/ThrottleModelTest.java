@@ -0,0 +1,107 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.HederaFunctionality;
+import com.hedera.hashgraph.sdk.proto.ThrottleBucket;
+import com.hedera.hashgraph.sdk.proto.ThrottleDefinitions;
+import com.hedera.hashgraph.sdk.proto.ThrottleGroup;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class ThrottleModelTest {
+    // 10 transfers per second with a one second burst, 2 topic creations per second in a second bucket
+    private static ThrottleModel spawnModel() throws Exception {
+        var definitions = ThrottleDefinitions.newBuilder()
+            .addThrottleBuckets(ThrottleBucket.newBuilder()
+                .setName("ThroughputLimits")
+                .setBurstPeriodMs(1000)
+                .addThrottleGroups(ThrottleGroup.newBuilder()
+                    .addOperations(HederaFunctionality.CryptoTransfer)
+                    .setMilliOpsPerSec(10_000)))
+            .addThrottleBuckets(ThrottleBucket.newBuilder()
+                .setName("CreationLimits")
+                .setBurstPeriodMs(1000)
+                .addThrottleGroups(ThrottleGroup.newBuilder()
+                    .addOperations(HederaFunctionality.ConsensusCreateTopic)
+                    .setMilliOpsPerSec(2_000)))
+            .build();
+
+        return ThrottleModel.fromBytes(definitions.toByteArray());
+    }
+
+    @Test
+    void predictsOpsPerSecond() throws Exception {
+        var model = spawnModel();
+
+        Assertions.assertThat(model.getOpsPerSecond(RequestType.CRYPTO_TRANSFER)).isEqualTo(10.0);
+        Assertions.assertThat(model.getOpsPerSecond(RequestType.CONSENSUS_CREATE_TOPIC)).isEqualTo(2.0);
+        Assertions.assertThat(model.getOpsPerSecond(RequestType.TOKEN_MINT)).isInfinite();
+
+        model.setTargetUtilization(0.5);
+        Assertions.assertThat(model.getOpsPerSecond(RequestType.CRYPTO_TRANSFER)).isEqualTo(5.0);
+    }
+
+    @Test
+    void pacesRequestsOverTheBurst() throws Exception {
+        var model = spawnModel();
+        var now = System.nanoTime();
+
+        // The burst period holds ten transfers
+        for (var i = 0; i < 10; i++) {
+            Assertions.assertThat(model.reserve(RequestType.CRYPTO_TRANSFER, now)).isEqualTo(0);
+        }
+
+        Assertions.assertThat(model.reserve(RequestType.CRYPTO_TRANSFER, now))
+            .isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertThat(model.reserve(RequestType.CRYPTO_TRANSFER, now))
+            .isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+
+        // Other buckets and unthrottled types are not affected
+        Assertions.assertThat(model.reserve(RequestType.CONSENSUS_CREATE_TOPIC, now)).isEqualTo(0);
+        Assertions.assertThat(model.reserve(RequestType.TOKEN_MINT, now)).isEqualTo(0);
+    }
+
+    @Test
+    void bucketDrainsOverTime() throws Exception {
+        var model = spawnModel();
+        var now = System.nanoTime();
+
+        for (var i = 0; i < 10; i++) {
+            model.reserve(RequestType.CRYPTO_TRANSFER, now);
+        }
+
+        var later = now + TimeUnit.MILLISECONDS.toNanos(100);
+        Assertions.assertThat(model.reserve(RequestType.CRYPTO_TRANSFER, later)).isEqualTo(0);
+    }
+
+    @Test
+    void mapsTransactionBodiesToRequestTypes() {
+        Assertions.assertThat(RequestType.valueOf(TransactionBody.DataCase.CRYPTOTRANSFER))
+            .isEqualTo(RequestType.CRYPTO_TRANSFER);
+        Assertions.assertThat(RequestType.valueOf(TransactionBody.DataCase.TOKENCREATION))
+            .isEqualTo(RequestType.TOKEN_CREATE);
+        Assertions.assertThat(RequestType.valueOf(TransactionBody.DataCase.DATA_NOT_SET))
+            .isEqualTo(RequestType.NONE);
+    }
+}
@@ -162,6 +162,13 @@ class TopicMessageQueryTest {
             .hasMessage("maxBackoff must be at least 500 ms");
     }
 
+    @Test
+    void setMaxChunkBufferBytesZero() {
+        assertThatThrownBy(() -> topicMessageQuery.setMaxChunkBufferBytes(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxChunkBufferBytes must be positive");
+    }
+
     @Test
     @SuppressWarnings("NullAway")
     void setRetryHandlerNull() {
@@ -227,6 +234,26 @@ class TopicMessageQueryTest {
             .contains(1L, 2L);
     }
 
+    @Test
+    @Timeout(3)
+    void subscribeChunkedEvictsIncompleteMessages() {
+        ConsensusTopicResponse orphan = chunk(1L, 1, 2, 1L);
+        ConsensusTopicResponse response1 = chunk(2L, 1, 2, 2L);
+        ConsensusTopicResponse response2 = chunk(3L, 2, 2, 2L);
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(orphan);
+        consensusServiceStub.responses.add(response1);
+        consensusServiceStub.responses.add(response2);
+        topicMessageQuery.setMaxChunkBufferBytes(orphan.getSerializedSize() + 1);
+
+        SubscriptionHandle subscriptionHandle = subscribeToMirror(received::add);
+
+        assertThat(errors).isEmpty();
+        assertThat(received).hasSize(1).extracting(t -> t.sequenceNumber).containsExactly(3L);
+        assertThat(subscriptionHandle.getEvictedChunkedMessages()).isEqualTo(1L);
+        assertThat(subscriptionHandle.getBufferedChunkBytes()).isZero();
+    }
+
     @Test
     @Timeout(3)
     void subscribeNoResponse() {
@@ -354,7 +381,7 @@ class TopicMessageQueryTest {
             .isEqualTo(Status.RESOURCE_EXHAUSTED);
     }
 
-    private void subscribeToMirror(Consumer<TopicMessage> onNext) {
+    private SubscriptionHandle subscribeToMirror(Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = topicMessageQuery.subscribe(client, onNext);
         Stopwatch stopwatch = Stopwatch.createStarted();
 
@@ -363,6 +390,7 @@ class TopicMessageQueryTest {
         }
 
         subscriptionHandle.unsubscribe();
+        return subscriptionHandle;
     }
 
     static private ConsensusTopicQuery.Builder request() {
@@ -376,6 +404,16 @@ class TopicMessageQueryTest {
         return response(sequenceNumber, 0);
     }
 
+    static private ConsensusTopicResponse chunk(long sequenceNumber, int number, int total, long validStartOffset) {
+        var response = response(sequenceNumber, total);
+        var initialTransactionID = response.getChunkInfo().getInitialTransactionID().toBuilder()
+            .setTransactionValidStart(toTimestamp(START_TIME.plusSeconds(validStartOffset)));
+        var chunkInfo = response.getChunkInfo().toBuilder()
+            .setNumber(number)
+            .setInitialTransactionID(initialTransactionID);
+        return response.toBuilder().setChunkInfo(chunkInfo).build();
+    }
+
     static private ConsensusTopicResponse response(long sequenceNumber, int total) {
         ConsensusTopicResponse.Builder consensusTopicResponseBuilder = ConsensusTopicResponse.newBuilder();
 
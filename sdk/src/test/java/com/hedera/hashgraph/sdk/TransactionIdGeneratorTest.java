@@ -0,0 +1,138 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class TransactionIdGeneratorTest {
+    private static long toNanos(TransactionId transactionId) {
+        var validStart = Objects.requireNonNull(transactionId.validStart);
+        return TimeUnit.SECONDS.toNanos(validStart.getEpochSecond()) + validStart.getNano();
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        var generator = new MonotonicTransactionIdGenerator();
+        var accountId = new AccountId(2);
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var futures = new ArrayList<Future<List<TransactionId>>>();
+            for (var thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    var ids = new ArrayList<TransactionId>();
+                    for (var i = 0; i < 10_000; i++) {
+                        ids.add(generator.generate(accountId, 1));
+                    }
+                    return ids;
+                }));
+            }
+
+            var validStarts = new HashSet<Long>();
+            for (var future : futures) {
+                for (var id : future.get(10, TimeUnit.SECONDS)) {
+                    validStarts.add(toNanos(id));
+                }
+            }
+
+            Assertions.assertThat(validStarts).hasSize(40_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reservesRoomForChunks() {
+        var generator = new MonotonicTransactionIdGenerator();
+        var accountId = new AccountId(2);
+        var now = TimeUnit.SECONDS.toNanos(1_000_000);
+
+        var first = generator.generate(accountId, 3, now);
+        var next = generator.generate(accountId, 1, now);
+
+        Assertions.assertThat(toNanos(first)).isEqualTo(now - MonotonicTransactionIdGenerator.BACKDATE_NANOS);
+        Assertions.assertThat(toNanos(next)).isEqualTo(toNanos(first) + 3);
+
+        // Other payers have their own counter
+        Assertions.assertThat(toNanos(generator.generate(new AccountId(3), 1, now))).isEqualTo(toNanos(first));
+    }
+
+    @Test
+    void followsTheClockOnceItMovesOn() {
+        var generator = new MonotonicTransactionIdGenerator();
+        var accountId = new AccountId(2);
+        var now = TimeUnit.SECONDS.toNanos(1_000_000);
+
+        generator.generate(accountId, 1, now);
+        var later = generator.generate(accountId, 1, now + TimeUnit.SECONDS.toNanos(1));
+
+        Assertions.assertThat(toNanos(later))
+            .isEqualTo(now + TimeUnit.SECONDS.toNanos(1) - MonotonicTransactionIdGenerator.BACKDATE_NANOS);
+    }
+
+    @Test
+    void neverRunsAheadOfTheClock() {
+        var generator = new MonotonicTransactionIdGenerator();
+        var accountId = new AccountId(2);
+        var now = TimeUnit.SECONDS.toNanos(1_000_000);
+
+        generator.generate(accountId, 1, now);
+
+        // The clock stepped back further than the backdate
+        Assertions.assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> generator.generate(accountId, 1, now - TimeUnit.SECONDS.toNanos(20)));
+    }
+
+    @Test
+    void dropsTheCountersOfIdlePayers() {
+        var generator = new MonotonicTransactionIdGenerator();
+        var now = TimeUnit.SECONDS.toNanos(1_000_000);
+
+        var first = generator.generate(new AccountId(2), 1, now);
+        generator.generate(new AccountId(3), 1, now);
+        Assertions.assertThat(generator.getCounterCount()).isEqualTo(2);
+
+        var later = now + 3 * MonotonicTransactionIdGenerator.BACKDATE_NANOS;
+        generator.generate(new AccountId(3), 1, later);
+        Assertions.assertThat(generator.getCounterCount()).isEqualTo(1);
+
+        // A new counter carries on from the clock, which is past every valid start the old one handed out
+        var next = generator.generate(new AccountId(2), 1, later);
+        Assertions.assertThat(toNanos(next)).isGreaterThan(toNanos(first));
+    }
+
+    @Test
+    void generatedIdsAreInThePast() {
+        var id = TransactionIdGenerator.monotonic().generate(new AccountId(2), 1);
+
+        Assertions.assertThat(Objects.requireNonNull(id.validStart)).isLessThan(Instant.now());
+        Assertions.assertThat(id.accountId).isEqualTo(new AccountId(2));
+    }
+}
@@ -0,0 +1,159 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TransactionPoolTest {
+    private static final PrivateKey operatorKey = PrivateKey.fromString(
+        "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+
+    private static final AccountId operatorId = AccountId.fromString("0.0.5006");
+
+    private final AtomicInteger reportedDepth = new AtomicInteger(-1);
+
+    private Client client;
+
+    private TransactionTemplate<TransferTransaction> template;
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        client = Client.forNetwork(Map.of())
+            .setOperator(operatorId, operatorKey)
+            .setMetrics(new ClientMetrics() {
+                @Override
+                public void onTransactionPoolDepthChanged(AccountId payerAccountId, int depth, int targetDepth) {
+                    reportedDepth.set(depth);
+                }
+            });
+
+        template = TransactionTemplate.from(new TransferTransaction()
+            .setNodeAccountIds(Collections.singletonList(AccountId.fromString("0.0.3")))
+            .setTransactionId(TransactionId.withValidStart(operatorId, Instant.ofEpochSecond(1554158542)))
+            .addHbarTransfer(AccountId.fromString("0.0.5008"), Hbar.fromTinybars(400))
+            .addHbarTransfer(operatorId, Hbar.fromTinybars(400).negated())
+            .freeze());
+    }
+
+    @AfterEach
+    void tearDown() throws TimeoutException {
+        client.close();
+    }
+
+    @Test
+    void handsOutSignedTransactionsAndRefills() throws InterruptedException {
+        try (var pool = new TransactionPool<>(client, template, 5)) {
+            await(() -> pool.getDepth() == 5);
+
+            var first = Objects.requireNonNull(pool.poll());
+            var second = Objects.requireNonNull(pool.poll());
+
+            assertThat(first.getTransactionId()).isNotEqualTo(second.getTransactionId());
+            assertThat(first.getTransactionId().accountId).isEqualTo(operatorId);
+            assertThat(first.getSignatures().get(AccountId.fromString("0.0.3"))).containsKey(operatorKey.getPublicKey());
+            assertThat(first.outerTransactions).doesNotContainNull();
+
+            await(() -> pool.getDepth() == 5);
+            assertThat(reportedDepth.get()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void dropsExpiredTransactions() throws InterruptedException {
+        try (var pool = new TransactionPool<>(client, template, 3)) {
+            await(() -> pool.getDepth() == 3);
+
+            pool.dropExpired(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+
+            assertThat(pool.getDepth()).isZero();
+            assertThat(reportedDepth.get()).isZero();
+
+            // Taking from the emptied pool fills it again
+            assertThat(pool.poll()).isNull();
+            await(() -> pool.getDepth() == 3);
+        }
+    }
+
+    @Test
+    void pollBytesHandsOutTheTransactionOfANode() throws Exception {
+        try (var pool = new TransactionPool<>(client, template, 2)) {
+            await(() -> pool.getDepth() == 2);
+
+            var bytes = Objects.requireNonNull(pool.pollBytes(AccountId.fromString("0.0.3")));
+
+            var signedTransaction = SignedTransaction.parseFrom(
+                com.hedera.hashgraph.sdk.proto.Transaction.parseFrom(bytes).getSignedTransactionBytes());
+            var body = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+
+            assertThat(AccountId.fromProtobuf(body.getNodeAccountID())).isEqualTo(AccountId.fromString("0.0.3"));
+            assertThat(signedTransaction.getSigMap().getSigPairCount()).isEqualTo(1);
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pool.pollBytes(AccountId.fromString("0.0.4")));
+        }
+    }
+
+    @Test
+    void takeBuildsWhenEmpty() {
+        var pool = new TransactionPool<>(client, template, 1);
+        pool.close();
+
+        assertThat(pool.poll()).isNull();
+        assertThat(pool.pollBytes(AccountId.fromString("0.0.3"))).isNull();
+        assertThat(pool.take().isFrozen()).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new TransactionPool<>(client, template, 0));
+
+        try (var pool = new TransactionPool<>(client, template, 1)) {
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pool.setExpiryMargin(Duration.ofMinutes(2)));
+            assertThat(pool.setExpiryMargin(Duration.ofMinutes(1)).getExpiryMargin()).isEqualTo(Duration.ofMinutes(1));
+        }
+    }
+}
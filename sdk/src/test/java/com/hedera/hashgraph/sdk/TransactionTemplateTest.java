@@ -0,0 +1,137 @@
+/*-
+ *
+ * Hedera Java SDK
+ *
+ * Copyright (C) 2020 - 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TransactionTemplateTest {
+    private static final PrivateKey unusedPrivateKey = PrivateKey.fromString(
+        "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+
+    private static final List<AccountId> nodeAccountIds =
+        Arrays.asList(AccountId.fromString("0.0.5005"), AccountId.fromString("0.0.5006"));
+
+    private static final AccountId payer = AccountId.fromString("0.0.5006");
+
+    private static TransferTransaction spawnTransfer(TransactionId transactionId, String memo) {
+        return new TransferTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(transactionId)
+            .addHbarTransfer(AccountId.fromString("0.0.5008"), Hbar.fromTinybars(400))
+            .addHbarTransfer(payer, Hbar.fromTinybars(400).negated())
+            .addTokenTransfer(TokenId.fromString("0.0.5"), AccountId.fromString("0.0.5008"), 400)
+            .addTokenTransfer(TokenId.fromString("0.0.5"), payer, -400)
+            .setMaxTransactionFee(Hbar.fromTinybars(100_000))
+            .setTransactionMemo(memo)
+            .freeze();
+    }
+
+    private static void assertSameBodies(Transaction<?> actual, Transaction<?> expected) {
+        assertThat(actual.innerSignedTransactions).hasSameSizeAs(expected.innerSignedTransactions);
+
+        for (var i = 0; i < expected.innerSignedTransactions.size(); i++) {
+            assertThat(actual.getSignedTransactionAt(i).getBodyBytes())
+                .isEqualTo(expected.getSignedTransactionAt(i).getBodyBytes());
+        }
+    }
+
+    @Test
+    void stampsTheSameBodiesAsFreezing() {
+        var template = TransactionTemplate.from(
+            spawnTransfer(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158542)), "template"));
+
+        var transactionId = TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158600, 123));
+        var transaction = template.newTransaction(transactionId);
+
+        assertThat(template.getNodeCount()).isEqualTo(2);
+        assertThat(transaction.isFrozen()).isTrue();
+        assertThat(transaction.getTransactionId()).isEqualTo(transactionId);
+        assertThat(transaction.getTransactionMemo()).isEqualTo("template");
+        assertThat(transaction.getHbarTransfers()).containsEntry(payer, Hbar.fromTinybars(400).negated());
+        assertThat(transaction.getNodeAccountIds()).isEqualTo(nodeAccountIds);
+        assertSameBodies(transaction, spawnTransfer(transactionId, "template"));
+    }
+
+    @Test
+    void stampsAnotherMemo() {
+        var template = TransactionTemplate.from(
+            spawnTransfer(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158542)), "template"));
+
+        var transactionId = TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158600));
+        var transaction = template.newTransaction(transactionId, "a longer memo than the template's");
+
+        assertThat(transaction.getTransactionMemo()).isEqualTo("a longer memo than the template's");
+        assertSameBodies(transaction, spawnTransfer(transactionId, "a longer memo than the template's"));
+    }
+
+    @Test
+    void copiesAreIndependent() {
+        var template = TransactionTemplate.from(
+            spawnTransfer(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158542)), ""));
+
+        var first = template.newTransaction(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158600)));
+        var second = template.newTransaction(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158601)));
+        first.sign(unusedPrivateKey);
+
+        assertThat(first.getSignatures().get(nodeAccountIds.get(0))).containsKey(unusedPrivateKey.getPublicKey());
+        assertThat(second.getSignatures()).isEmpty();
+        assertThat(first.getTransactionHash()).isNotEqualTo(second.getTransactionHash());
+    }
+
+    @Test
+    void copiesAreSignedByTheTemplateSigners() {
+        var template = TransactionTemplate.from(
+            spawnTransfer(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158542)), "")
+                .sign(unusedPrivateKey));
+
+        var transaction = template.newTransaction(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158600)));
+        var signatures = transaction.getSignatures();
+
+        for (var i = 0; i < nodeAccountIds.size(); i++) {
+            var signature = signatures.get(nodeAccountIds.get(i)).get(unusedPrivateKey.getPublicKey());
+
+            assertThat(unusedPrivateKey.getPublicKey().verify(
+                transaction.getSignedTransactionAt(i).getBodyBytes().toByteArray(), signature)).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsUnfrozenAndChunkedTransactions() {
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> TransactionTemplate.from(new TransferTransaction()));
+
+        var chunked = new FileAppendTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(TransactionId.withValidStart(payer, Instant.ofEpochSecond(1554158542)))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(new byte[10_000])
+            .freeze();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> TransactionTemplate.from(chunked));
+    }
+}
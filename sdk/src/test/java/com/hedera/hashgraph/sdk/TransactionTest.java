@@ -22,8 +22,20 @@ package com.hedera.hashgraph.sdk;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TransactionTest {
     @Test
@@ -35,4 +47,164 @@ public class TransactionTest {
         assertEquals(transaction.getHbarTransfers().get(new AccountId(476260)), new Hbar(1).negated());
         assertEquals(transaction.getHbarTransfers().get(new AccountId(476267)), new Hbar(1));
     }
+
+    private static TransferTransaction spawnTransferTransaction(int nodeCount) {
+        var nodeAccountIds = new ArrayList<AccountId>(nodeCount);
+        for (var i = 0; i < nodeCount; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        return new TransferTransaction()
+            .setNodeAccountIds(nodeAccountIds)
+            .setTransactionId(TransactionId.withValidStart(AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542)))
+            .addHbarTransfer(AccountId.fromString("0.0.5008"), Hbar.fromTinybars(400))
+            .addHbarTransfer(AccountId.fromString("0.0.5006"), Hbar.fromTinybars(-400))
+            .freeze();
+    }
+
+    @Test
+    void parallelSigningMatchesSequentialSigning() {
+        var ed25519Key = PrivateKey.generateED25519();
+        var ecdsaKey = PrivateKey.generateECDSA();
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var sequential = spawnTransferTransaction(26)
+                .sign(ed25519Key)
+                .sign(ecdsaKey);
+
+            var parallel = spawnTransferTransaction(26)
+                .setSigningExecutor(executor)
+                .sign(ed25519Key)
+                .sign(ecdsaKey);
+
+            assertArrayEquals(sequential.toBytes(), parallel.toBytes());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void signingAfterFromBytesKeepsOneSignaturePerKey() throws InvalidProtocolBufferException {
+        var firstKey = PrivateKey.generateED25519();
+        var secondKey = PrivateKey.generateED25519();
+
+        var bytes = spawnTransferTransaction(3).sign(firstKey).toBytes();
+
+        var transaction = Transaction.fromBytes(bytes).sign(secondKey);
+        var signatures = transaction.getSignatures();
+
+        assertEquals(3, signatures.size());
+        for (var nodeSignatures : signatures.values()) {
+            assertEquals(2, nodeSignatures.size());
+            assertTrue(nodeSignatures.containsKey(firstKey.getPublicKey()));
+            assertTrue(nodeSignatures.containsKey(secondKey.getPublicKey()));
+        }
+    }
+
+    private static byte[] spawnMismatchedBodies() {
+        var list = com.hedera.hashgraph.sdk.proto.TransactionList.newBuilder();
+
+        for (var memo : new String[]{"first", "second"}) {
+            var body = com.hedera.hashgraph.sdk.proto.TransactionBody.newBuilder()
+                .setTransactionID(TransactionId.withValidStart(AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542)).toProtobuf())
+                .setNodeAccountID(new AccountId(memo.equals("first") ? 3 : 4).toProtobuf())
+                .setMemo(memo)
+                .setCryptoTransfer(com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody.getDefaultInstance());
+
+            list.addTransactionList(com.hedera.hashgraph.sdk.proto.Transaction.newBuilder()
+                .setSignedTransactionBytes(com.hedera.hashgraph.sdk.proto.SignedTransaction.newBuilder()
+                    .setBodyBytes(body.build().toByteString())
+                    .build()
+                    .toByteString()));
+        }
+
+        return list.build().toByteArray();
+    }
+
+    @Test
+    void fromBytesRejectsMismatchedBodies() {
+        var bytes = spawnMismatchedBodies();
+
+        assertThrows(IllegalArgumentException.class, () -> Transaction.fromBytes(bytes));
+    }
+
+    @Test
+    void fromStreamRejectsMismatchedBodies() {
+        var bytes = spawnMismatchedBodies();
+
+        assertThrows(IllegalArgumentException.class, () -> Transaction.fromStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void fromStreamMatchesFromBytes() throws IOException {
+        var key = PrivateKey.generateED25519();
+        var nodeAccountIds = new ArrayList<AccountId>();
+        for (var i = 0; i < 4; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        var transactions = new Transaction<?>[]{
+            spawnTransferTransaction(3).sign(key),
+            new FileAppendTransaction()
+                .setNodeAccountIds(nodeAccountIds)
+                .setTransactionId(TransactionId.withValidStart(AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542)))
+                .setFileId(FileId.fromString("0.0.6006"))
+                .setContents(new byte[10_000])
+                .freeze()
+                .sign(key)
+        };
+
+        for (var transaction : transactions) {
+            var bytes = transaction.toBytes();
+
+            var fromBytes = Transaction.fromBytes(bytes);
+            var fromStream = Transaction.fromStream(new ByteArrayInputStream(bytes));
+
+            assertEquals(fromBytes.getClass(), fromStream.getClass());
+            assertEquals(fromBytes.getTransactionId(), fromStream.getTransactionId());
+            assertEquals(fromBytes.getNodeAccountIds(), fromStream.getNodeAccountIds());
+            assertArrayEquals(bytes, fromStream.toBytes());
+        }
+    }
+
+    @Test
+    void streamingSerializationMatchesToBytes() throws IOException {
+        var transaction = spawnTransferTransaction(3).sign(PrivateKey.generateED25519());
+
+        // Built the way toBytes() used to build it
+        transaction.buildAllTransactions();
+        var expected = com.hedera.hashgraph.sdk.proto.TransactionList.newBuilder()
+            .addAllTransactionList(transaction.outerTransactions)
+            .build()
+            .toByteArray();
+
+        assertArrayEquals(expected, transaction.toBytes());
+        assertEquals(expected.length, transaction.getSerializedSize());
+
+        var stream = new ByteArrayOutputStream();
+        transaction.writeTo(stream);
+        assertArrayEquals(expected, stream.toByteArray());
+
+        for (var buffer : new ByteBuffer[]{ByteBuffer.allocate(expected.length + 2), ByteBuffer.allocateDirect(expected.length + 2)}) {
+            buffer.put((byte) 1);
+            transaction.writeTo(buffer);
+
+            assertEquals(expected.length + 1, buffer.position());
+
+            var written = new byte[expected.length];
+            buffer.position(1);
+            buffer.get(written);
+            assertArrayEquals(expected, written);
+        }
+    }
+
+    @Test
+    void writeToByteBufferRejectsTooSmallBuffers() {
+        var transaction = spawnTransferTransaction(2);
+        var buffer = ByteBuffer.allocate(transaction.getSerializedSize() - 1);
+
+        assertThrows(BufferOverflowException.class, () -> transaction.writeTo(buffer));
+        assertEquals(0, buffer.position());
+    }
 }